@@ -0,0 +1,73 @@
+package org.folio.login.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Compares {@link JwtTokenParser#parseExpirationDate(String)} with the previous implementation, which split the token
+ * with a regex and read the whole payload into a JSON tree.
+ *
+ * <p>Run with {@code -prof gc} (the default of the {@code jmh} profile) to get allocation per call
+ * ({@code gc.alloc.rate.norm}) next to the throughput.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenParserBenchmark {
+
+  private static final String PAYLOAD = """
+    {"exp":1693241071,"iat":1693240771,"jti":"a0f3d1d2-5f61-4e8a-9bb2-56d3a3b6c0f1",
+    "iss":"http://keycloak:8080/realms/diku","aud":["account","diku-application"],
+    "sub":"f3a2b0f4-0c5e-4a4c-8f2b-1c2d3e4f5a6b","typ":"Bearer","azp":"diku-login-application",
+    "sid":"c1b2a3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d","acr":"1","allowed-origins":["/*"],
+    "realm_access":{"roles":["offline_access","uma_authorization","default-roles-diku"]},
+    "resource_access":{"account":{"roles":["manage-account","view-profile"]}},
+    "scope":"profile email","email_verified":false,"user_id":"99999999-9999-4999-9999-999999999999",
+    "preferred_username":"diku_admin"}""";
+
+  private ObjectMapper objectMapper;
+  private JwtTokenParser jwtTokenParser;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    jwtTokenParser = new JwtTokenParser(objectMapper);
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    token = encoder.encodeToString("{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+      + "." + encoder.encodeToString(PAYLOAD.getBytes(StandardCharsets.UTF_8))
+      + "." + encoder.encodeToString(new byte[256]);
+  }
+
+  @Benchmark
+  public String splitAndReadTree() {
+    var split = token.split("\\.");
+    if (split.length < 2 || split.length > 3) {
+      throw new IllegalStateException("Invalid amount of segments in JWT token.");
+    }
+
+    var payload = objectMapper.readTree(new String(Base64.getUrlDecoder().decode(split[1])));
+    return Instant.ofEpochSecond(payload.get("exp").asLong()).toString();
+  }
+
+  @Benchmark
+  public String streamingParser() {
+    return jwtTokenParser.parseExpirationDate(token);
+  }
+}
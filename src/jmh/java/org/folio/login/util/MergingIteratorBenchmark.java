@@ -0,0 +1,125 @@
+package org.folio.login.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.folio.login.domain.dto.LogEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the lazy merge of user and admin events with the previous implementation, which loaded
+ * {@code start + length} records from both sources and sorted them before applying the offset.
+ *
+ * <p>Sources are in-memory lists returning a copy of each requested page, as the Keycloak client does, so the
+ * benchmark measures the merge itself and the records it makes the sources load.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergingIteratorBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+  private static final int LENGTH = 100;
+  private static final Comparator<LogEvent> TIMESTAMP_DESC =
+    Comparator.comparing(LogEvent::getTimestamp, Comparator.reverseOrder());
+
+  @Param({"10000", "100000"})
+  private int start;
+
+  private List<LogEvent> userEvents;
+  private List<LogEvent> adminEvents;
+
+  @Setup
+  public void setUp() {
+    var maxRecords = start + LENGTH;
+    userEvents = events(maxRecords, 0);
+    adminEvents = events(maxRecords, 1);
+  }
+
+  @Benchmark
+  public List<LogEvent> materializeAndSort() {
+    var maxRecords = start + LENGTH;
+    var loadedUserEvents = loadPaginatedData(offset -> page(userEvents, offset, BATCH_SIZE), maxRecords);
+    var loadedAdminEvents = loadPaginatedData(offset -> page(adminEvents, offset, BATCH_SIZE), maxRecords);
+
+    var mergedList = Stream.concat(loadedUserEvents.stream(), loadedAdminEvents.stream())
+      .sorted(TIMESTAMP_DESC)
+      .limit(maxRecords)
+      .collect(Collectors.toList());
+    return start >= mergedList.size() ? Collections.emptyList() :
+      mergedList.subList(start, Math.min(maxRecords, mergedList.size()));
+  }
+
+  @Benchmark
+  public List<LogEvent> lazyMerge() {
+    var pageSize = Math.clamp(start + LENGTH, 1, BATCH_SIZE);
+    Iterator<LogEvent> userSource = new PagedIterator<LogEvent, LogEvent>(
+      offset -> page(userEvents, offset, pageSize), pageSize, page -> page);
+    Iterator<LogEvent> adminSource = new PagedIterator<LogEvent, LogEvent>(
+      offset -> page(adminEvents, offset, pageSize), pageSize, page -> page);
+    var merged = new MergingIterator<>(List.of(userSource, adminSource), TIMESTAMP_DESC);
+
+    var skipped = 0;
+    while (skipped < start && merged.hasNext()) {
+      merged.next();
+      skipped++;
+    }
+
+    var result = new ArrayList<LogEvent>(LENGTH);
+    while (result.size() < LENGTH && merged.hasNext()) {
+      result.add(merged.next());
+    }
+    return result;
+  }
+
+  private static <T> List<T> loadPaginatedData(IntFunction<List<T>> offsetLoadFunction, int limit) {
+    int currBatchSize;
+    var offset = 0;
+    var allRecords = new ArrayList<T>();
+
+    do {
+      var result = offsetLoadFunction.apply(offset);
+      currBatchSize = result.size();
+      offset += currBatchSize;
+      allRecords.addAll(result);
+    } while (currBatchSize > 0 && allRecords.size() < limit);
+
+    return allRecords;
+  }
+
+  private static List<LogEvent> page(List<LogEvent> events, int offset, int maxResults) {
+    var fromIndex = Math.min(offset, events.size());
+    return new ArrayList<>(events.subList(fromIndex, Math.min(fromIndex + maxResults, events.size())));
+  }
+
+  /**
+   * Creates events sorted by time in descending order, sources get interleaving timestamps.
+   */
+  private static List<LogEvent> events(int count, int timeShift) {
+    var events = new ArrayList<LogEvent>(count);
+    for (var i = count - 1; i >= 0; i--) {
+      events.add(new LogEvent().id(String.valueOf(i)).timestamp(new Date(2L * i + timeShift)));
+    }
+    return events;
+  }
+}
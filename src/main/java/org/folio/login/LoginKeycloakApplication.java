@@ -4,11 +4,9 @@ import org.folio.common.configuration.properties.FolioEnvironment;
 import org.folio.integration.kafka.producer.EnableKafkaProducer;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Import;
 
 @EnableKafkaProducer
-@EnableCaching
 @SpringBootApplication
 @Import(FolioEnvironment.class)
 public class LoginKeycloakApplication {
@@ -0,0 +1,39 @@
+package org.folio.login.configuration;
+
+import static org.apache.commons.collections4.MapUtils.isEmpty;
+
+import java.util.HashMap;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs submitted tasks with a copy of the submitting thread's {@link FolioExecutionContext}.
+ *
+ * <p>The context is thread-bound, so tasks executed by pooled or virtual threads would see no tenant and headers
+ * without it. Tasks submitted outside a request are executed as is.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class FolioExecutionContextTaskDecorator implements TaskDecorator {
+
+  private final FolioExecutionContext folioExecutionContext;
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    var headers = folioExecutionContext.getAllHeaders();
+    if (isEmpty(headers)) {
+      return runnable;
+    }
+
+    var moduleMetadata = folioExecutionContext.getFolioModuleMetadata();
+    var headersCopy = new HashMap<>(headers);
+    return () -> {
+      try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headersCopy)) {
+        runnable.run();
+      }
+    };
+  }
+}
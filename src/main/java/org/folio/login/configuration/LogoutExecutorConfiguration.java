@@ -0,0 +1,58 @@
+package org.folio.login.configuration;
+
+import org.folio.login.configuration.property.LogoutProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors of logout requests. They are separate from the throttled {@code keycloakExecutor}, so logout requests do
+ * not queue behind bulk operations, and bounded, so tasks are rejected instead of piling up when Keycloak or Kafka
+ * are unavailable.
+ */
+@Configuration
+public class LogoutExecutorConfiguration {
+
+  /**
+   * Executor for Keycloak session terminations, the request waits for them until the logout timeout is passed.
+   */
+  @Bean("logoutExecutor")
+  AsyncTaskExecutor logoutExecutor(LogoutProperties properties, TaskDecorator taskDecorator,
+    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+    return buildExecutor("logout-", properties, taskDecorator, virtualThreadsEnabled);
+  }
+
+  /**
+   * Executor for logout events sent directly to Kafka, the request does not wait for them.
+   */
+  @Bean("logoutEventExecutor")
+  AsyncTaskExecutor logoutEventExecutor(LogoutProperties properties, TaskDecorator taskDecorator,
+    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+    return buildExecutor("logout-event-", properties, taskDecorator, virtualThreadsEnabled);
+  }
+
+  static AsyncTaskExecutor buildExecutor(String threadPrefix, LogoutProperties properties,
+    TaskDecorator taskDecorator, boolean virtualThreadsEnabled) {
+    if (virtualThreadsEnabled) {
+      var executor = new SimpleAsyncTaskExecutor(threadPrefix);
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(properties.getPoolSize() + properties.getQueueCapacity());
+      executor.setRejectTasksWhenLimitReached(true);
+      executor.setTaskDecorator(taskDecorator);
+      return executor;
+    }
+
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setThreadNamePrefix(threadPrefix);
+    executor.setTaskDecorator(taskDecorator);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+}
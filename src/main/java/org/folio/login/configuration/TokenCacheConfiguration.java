@@ -1,6 +1,8 @@
 package org.folio.login.configuration;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.folio.login.configuration.property.TokenCacheProperties;
 import org.folio.login.domain.model.KeycloakAuthentication;
 import org.folio.login.service.AdminTokenCacheFactory;
@@ -10,9 +12,12 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class TokenCacheConfiguration {
 
+  private static final String ADMIN_TOKEN_CACHE_NAME = "admin-token";
+
   @Bean("adminTokenCache")
-  public Cache<String, KeycloakAuthentication> adminTokenCache(TokenCacheProperties tokenCacheProperties) {
+  public Cache<String, KeycloakAuthentication> adminTokenCache(TokenCacheProperties tokenCacheProperties,
+    MeterRegistry meterRegistry) {
     var tokenCacheFactory = new AdminTokenCacheFactory(tokenCacheProperties);
-    return tokenCacheFactory.createCache();
+    return CaffeineCacheMetrics.monitor(meterRegistry, tokenCacheFactory.createCache(), ADMIN_TOKEN_CACHE_NAME);
   }
 }
@@ -0,0 +1,34 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.cache-prewarm")
+public class CachePrewarmProperties {
+
+  /**
+   * Defines if realm configurations of the enabled tenants and the admin token are loaded at startup.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of realm configurations loaded in parallel.
+   */
+  @NotNull
+  @Positive
+  private Integer parallelism = 8;
+
+  /**
+   * Maximum duration of the prewarming, the application reports readiness once it is passed.
+   */
+  @NotNull
+  private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,28 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache.keycloak-user-id")
+public class KeycloakUserIdCacheProperties {
+
+  /**
+   * Time for which the folio user id to Keycloak user id mapping is cached.
+   */
+  @NotNull
+  private Duration ttl = Duration.ofHours(1);
+
+  /**
+   * Maximum number of cached user ids per tenant, applied to each direction of the mapping.
+   */
+  @Positive
+  private int maxSize = 10_000;
+}
@@ -0,0 +1,69 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.log-events-store")
+public class LogEventsStoreProperties {
+
+  /**
+   * Defines if log events are synchronized from Keycloak to the module database and served from it.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Delay between the end of a Keycloak events synchronization and the start of the next one.
+   */
+  @NotNull
+  private Duration syncInterval = Duration.ofSeconds(60);
+
+  /**
+   * Number of Keycloak events loaded and inserted into the database at once.
+   */
+  @NotNull
+  @Positive
+  private Integer syncBatchSize = 100;
+
+  /**
+   * Maximum number of pages of Keycloak events synchronized per event source in one run, older events are loaded
+   * by the next runs.
+   */
+  @NotNull
+  @Positive
+  private Integer syncMaxPages = 50;
+
+  /**
+   * Maximum time a synchronization run holds a tenant, a run that failed without releasing the tenant is taken over
+   * by another module instance after it.
+   */
+  @NotNull
+  private Duration syncLease = Duration.ofMinutes(10);
+
+  /**
+   * Maximum number of saved and deleted log events, buffered before they are written to the database.
+   */
+  @NotNull
+  @Positive
+  private Integer writeBufferCapacity = 10_000;
+
+  /**
+   * Number of buffered log events written to the database with one batch statement.
+   */
+  @NotNull
+  @Positive
+  private Integer writeBatchSize = 500;
+
+  /**
+   * Delay between flushes of the buffered log events writes.
+   */
+  @NotNull
+  private Duration writeFlushInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,48 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.logout-event-outbox")
+public class LogoutEventOutboxProperties {
+
+  /**
+   * Defines if logout events are saved to the tenant outbox table and sent to Kafka in background, instead of being
+   * sent on the request thread.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Delay between the end of an outbox relay and the start of the next one.
+   */
+  @NotNull
+  private Duration relayInterval = Duration.ofSeconds(1);
+
+  /**
+   * Number of outbox events sent to Kafka and deleted at once.
+   */
+  @NotNull
+  @Positive
+  private Integer relayBatchSize = 500;
+
+  /**
+   * Maximum time to wait for Kafka acknowledgements of a batch, unacknowledged events are sent again later.
+   */
+  @NotNull
+  private Duration sendTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Maximum time the relay blocks on sending an event while Kafka metadata or buffer space is unavailable, the batch
+   * is stopped at the first event that is not sent in time.
+   */
+  @NotNull
+  private Duration maxBlock = Duration.ofSeconds(5);
+}
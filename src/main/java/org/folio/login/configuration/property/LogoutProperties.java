@@ -0,0 +1,37 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.logout")
+public class LogoutProperties {
+
+  /**
+   * Maximum duration of a logout or logout-all request, including the Keycloak user lookup and session termination.
+   */
+  @NotNull
+  private Duration timeout = Duration.ofSeconds(10);
+
+  /**
+   * Number of threads terminating Keycloak sessions and, with the outbox disabled, sending logout events to Kafka.
+   */
+  @NotNull
+  @Positive
+  private Integer poolSize = 16;
+
+  /**
+   * Maximum number of session terminations and logout events waiting for a thread, further tasks are rejected. With
+   * virtual threads, tasks are not queued and the pool and queue sizes together limit the running tasks.
+   */
+  @NotNull
+  @Positive
+  private Integer queueCapacity = 1000;
+}
@@ -0,0 +1,43 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache.keycloak-configuration")
+public class RealmConfigurationCacheProperties {
+
+  /**
+   * Maximum age of a cached realm configuration since its last successful load, it is served while a background
+   * refresh is pending.
+   */
+  @NotNull
+  private Duration ttl = Duration.ofHours(1);
+
+  /**
+   * Age of a cached realm configuration after which it is refreshed in background on the next access.
+   * If the TTL is shorter, the realm configuration is refreshed in the middle of it.
+   */
+  @NotNull
+  private Duration refreshAfter = Duration.ofMinutes(30);
+
+  /**
+   * Maximum age of the last successfully loaded realm configuration that is served while background refreshes fail.
+   * If the TTL is longer, the TTL is used.
+   */
+  @NotNull
+  private Duration maxStaleness = Duration.ofHours(24);
+
+  /**
+   * Maximum number of cached realm configurations.
+   */
+  @Positive
+  private int maxSize = 500;
+}
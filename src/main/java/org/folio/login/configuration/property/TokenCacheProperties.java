@@ -2,6 +2,7 @@ package org.folio.login.configuration.property;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -21,4 +22,18 @@ public class TokenCacheProperties {
   @NotNull
   @Positive
   private Integer refreshBeforeExpirySec;
+
+  /**
+   * Specifies the amount of seconds prior to the cache entry expiration when the admin token is renewed in background.
+   * If the cache entry lifetime is shorter, the token is renewed in the middle of it.
+   */
+  @NotNull
+  @Positive
+  private Integer renewAheadSec = 15;
+
+  /**
+   * Initial delay between retries of a failed background token renewal, doubled on each subsequent attempt.
+   */
+  @NotNull
+  private Duration renewalRetryDelay = Duration.ofSeconds(1);
 }
@@ -0,0 +1,35 @@
+package org.folio.login.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache.token-refresh")
+public class TokenRefreshCacheProperties {
+
+  /**
+   * Time for which the result of a token refresh is returned to the duplicate requests with the same refresh token.
+   * Zero disables the coalescing of refresh requests.
+   */
+  @NotNull
+  private Duration ttl = Duration.ofSeconds(2);
+
+  /**
+   * Maximum number of cached token refresh results.
+   */
+  @Positive
+  private int maxSize = 10_000;
+
+  /**
+   * Maximum time for which a duplicate request waits for the token refresh in progress.
+   */
+  @NotNull
+  private Duration waitTimeout = Duration.ofSeconds(30);
+}
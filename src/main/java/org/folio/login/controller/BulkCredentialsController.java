@@ -0,0 +1,35 @@
+package org.folio.login.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.folio.login.service.BulkCredentialsService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk credentials endpoint. It is not part of the OpenAPI specification, as the generated interfaces can't stream
+ * request and response bodies.
+ */
+@RestController
+@RequiredArgsConstructor
+public class BulkCredentialsController {
+
+  private final BulkCredentialsService bulkCredentialsService;
+
+  /**
+   * Creates credentials from an NDJSON body of {@code loginCredentials} records and streams an NDJSON result line
+   * per record, with the record line number and its status: CREATED, ALREADY_EXISTS, NOT_FOUND, INVALID or FAILED.
+   */
+  @PostMapping(path = "/authn/credentials/bulk", consumes = APPLICATION_NDJSON_VALUE,
+    produces = APPLICATION_NDJSON_VALUE)
+  public void createCredentials(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(APPLICATION_NDJSON_VALUE);
+    bulkCredentialsService.createAuthCredentials(request.getInputStream(), response.getOutputStream());
+  }
+}
@@ -6,6 +6,8 @@ import static org.springframework.http.HttpStatus.OK;
 
 import lombok.RequiredArgsConstructor;
 import org.folio.login.domain.dto.CredentialsExistence;
+import org.folio.login.domain.dto.CredentialsExistenceCollection;
+import org.folio.login.domain.dto.CredentialsExistenceRequest;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.dto.UpdateCredentials;
 import org.folio.login.rest.resource.CredentialsApi;
@@ -24,6 +26,12 @@ public class CredentialsController implements CredentialsApi {
     return ResponseEntity.status(OK).body(credentialsService.checkCredentialsExistence(userId));
   }
 
+  @Override
+  public ResponseEntity<CredentialsExistenceCollection> checkCredentialsExistenceBatch(
+    CredentialsExistenceRequest credentialsExistenceRequest) {
+    return ResponseEntity.ok(credentialsService.checkCredentialsExistence(credentialsExistenceRequest.getUserIds()));
+  }
+
   @Override
   public ResponseEntity<Void> createCredentials(LoginCredentials loginCredentials) {
     credentialsService.createAuthCredentials(loginCredentials);
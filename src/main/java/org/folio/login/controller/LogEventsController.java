@@ -1,9 +1,14 @@
 package org.folio.login.controller;
 
+import static org.springframework.http.HttpStatus.CREATED;
+
 import lombok.RequiredArgsConstructor;
+import org.folio.login.domain.dto.LogEvent;
 import org.folio.login.domain.dto.LogEventCollection;
+import org.folio.login.domain.dto.LogResponse;
 import org.folio.login.rest.resource.LogEventsApi;
 import org.folio.login.service.LogEventsService;
+import org.folio.login.service.LoginEventStoreService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -11,10 +16,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class LogEventsController implements LogEventsApi {
   private final LogEventsService service;
+  private final LoginEventStoreService loginEventStoreService;
 
   @Override
-  public ResponseEntity<LogEventCollection> getLogEvents(Integer length, Integer start, String query) {
-    var events = service.getUserEvents(start - 1, length, query);
+  public ResponseEntity<LogEventCollection> getLogEvents(Integer length, Integer start, String query,
+    String cursor) {
+    var events = service.getUserEvents(start - 1, length, query, cursor);
     return ResponseEntity.ok(events);
   }
+
+  @Override
+  public ResponseEntity<LogResponse> saveLogEvent(LogEvent logEvent) {
+    var eventId = loginEventStoreService.saveEvent(logEvent);
+    return ResponseEntity.status(CREATED).body(new LogResponse().message("Log event accepted: " + eventId));
+  }
+
+  @Override
+  public ResponseEntity<Void> deleteLogEvent(String eventId) {
+    loginEventStoreService.deleteEvent(eventId);
+    return ResponseEntity.noContent().build();
+  }
 }
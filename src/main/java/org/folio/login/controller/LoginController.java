@@ -8,11 +8,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.login.configuration.property.TokenHeaderProperties;
 import org.folio.login.controller.cookie.advice.InvalidateCookies;
+import org.folio.login.domain.dto.BulkLogoutRequest;
+import org.folio.login.domain.dto.BulkLogoutResponse;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.dto.LoginResponse;
 import org.folio.login.domain.dto.LoginResponseWithExpiry;
 import org.folio.login.domain.model.TokenContainer;
 import org.folio.login.rest.resource.LoginApi;
+import org.folio.login.service.BulkLogoutService;
 import org.folio.login.service.LoginService;
 import org.folio.login.service.TokenCookieHeaderManager;
 import org.springframework.http.HttpHeaders;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginController implements LoginApi {
 
   private final LoginService loginService;
+  private final BulkLogoutService bulkLogoutService;
   private final TokenHeaderProperties tokenHeaderProperties;
   private final TokenCookieHeaderManager tokenCookieHeaderManager;
 
@@ -68,6 +72,11 @@ public class LoginController implements LoginApi {
       .build();
   }
 
+  @Override
+  public ResponseEntity<BulkLogoutResponse> bulkLogoutAll(BulkLogoutRequest bulkLogoutRequest) {
+    return ResponseEntity.ok(bulkLogoutService.logoutAll(bulkLogoutRequest.getUserIds()));
+  }
+
   @Override
   public ResponseEntity<LoginResponseWithExpiry> token(String code, String redirectUri, String userAgent,
     String forwardedFor) {
@@ -0,0 +1,47 @@
+package org.folio.login.controller.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.folio.login.controller.cookie.filter.InvalidateCookiesFilter;
+import org.folio.login.service.StageTimings;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Adds {@code Server-Timing} header with the durations of the login pipeline stages.
+ *
+ * <p>The response body is buffered until the request is processed, as the header must be set before the response is
+ * committed. It is applied only to the login endpoints with small response bodies, NDJSON requests are skipped as
+ * their responses are streamed.</p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  public static final int ORDER = InvalidateCookiesFilter.ORDER - 1;
+  public static final String SERVER_TIMING = "Server-Timing";
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    var contentType = request.getContentType();
+    return contentType != null && contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    var timings = new StageTimings();
+    var responseWrapper = new ContentCachingResponseWrapper(response);
+    request.setAttribute(StageTimings.REQUEST_ATTRIBUTE, timings);
+    try {
+      filterChain.doFilter(request, responseWrapper);
+    } finally {
+      if (!timings.isEmpty() && !responseWrapper.isCommitted()) {
+        responseWrapper.addHeader(SERVER_TIMING, timings.toHeaderValue());
+      }
+      responseWrapper.copyBodyToResponse();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.login.controller.timing.config;
+
+import org.folio.login.controller.timing.ServerTimingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "application.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilterConfig {
+
+  private static final String URL_AUTHN = "/authn/*";
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+    var registrationBean = new FilterRegistrationBean<>(new ServerTimingFilter());
+    registrationBean.addUrlPatterns(URL_AUTHN);
+    registrationBean.setOrder(ServerTimingFilter.ORDER);
+    return registrationBean;
+  }
+}
@@ -0,0 +1,37 @@
+package org.folio.login.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import java.util.UUID;
+import lombok.Data;
+import org.folio.login.domain.dto.LogEventType;
+
+@Data
+@Entity
+@Table(name = "login_event")
+public class LoginEventEntity {
+
+  @Id
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type")
+  private LogEventType eventType;
+
+  @Column(name = "user_id")
+  private UUID userId;
+
+  @Column(name = "ip")
+  private String ip;
+
+  @Column(name = "browser_information")
+  private String browserInformation;
+
+  @Column(name = "event_time")
+  private Date eventTime;
+}
@@ -0,0 +1,54 @@
+package org.folio.login.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * High-water mark of the Keycloak events synchronization, stored per event source.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "login_event_sync_state")
+public class LoginEventSyncStateEntity {
+
+  @Id
+  private String source;
+
+  /**
+   * Time of the latest synchronized event in epoch milliseconds.
+   */
+  @Column(name = "last_event_time")
+  private long lastEventTime;
+
+  /**
+   * Upper bound of event time for the next synchronization, set while events older than the ones loaded by a limited
+   * synchronization are not loaded yet.
+   */
+  @Column(name = "backfill_to")
+  private Long backfillTo;
+
+  /**
+   * Time of the latest event loaded by the unfinished backfill, it becomes the high-water mark once backfill is done.
+   */
+  @Column(name = "backfill_last_event_time")
+  private Long backfillLastEventTime;
+
+  /**
+   * Time in epoch milliseconds until which a synchronization run holds the source, other runs skip the tenant
+   * until then.
+   */
+  @Column(name = "leased_until")
+  private Long leasedUntil;
+
+  public static LoginEventSyncStateEntity of(String source, long lastEventTime) {
+    var entity = new LoginEventSyncStateEntity();
+    entity.setSource(source);
+    entity.setLastEventTime(lastEventTime);
+    return entity;
+  }
+}
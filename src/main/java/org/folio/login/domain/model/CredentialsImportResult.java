@@ -0,0 +1,26 @@
+package org.folio.login.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Result of a single credentials record of the bulk import, written as an NDJSON line.
+ *
+ * @param line - line number of the record in the request body, starting at one
+ * @param userId - folio user identifier of the record
+ * @param username - username of the record
+ * @param status - import status
+ * @param message - failure reason, null if credentials are created
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"line", "userId", "username", "status", "message"})
+public record CredentialsImportResult(long line, String userId, String username, Status status, String message) {
+
+  public enum Status {
+    CREATED,
+    ALREADY_EXISTS,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+  }
+}
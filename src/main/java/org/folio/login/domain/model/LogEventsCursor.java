@@ -0,0 +1,91 @@
+package org.folio.login.domain.model;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position of the last returned log event in each of the event sources, used for keyset pagination.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class LogEventsCursor {
+
+  /**
+   * Position in Keycloak user events.
+   */
+  private EventPosition user;
+
+  /**
+   * Position in Keycloak admin events.
+   */
+  private EventPosition admin;
+
+  /**
+   * Position in log events, stored in the module database.
+   */
+  private EventPosition store;
+
+  public EventPosition getPosition(EventSource source) {
+    return switch (source) {
+      case USER -> user;
+      case ADMIN -> admin;
+      case STORE -> store;
+    };
+  }
+
+  public void setPosition(EventSource source, EventPosition position) {
+    switch (source) {
+      case USER -> this.user = position;
+      case ADMIN -> this.admin = position;
+      case STORE -> this.store = position;
+    }
+  }
+
+  /**
+   * Creates a deep copy of the cursor.
+   *
+   * @return copied {@link LogEventsCursor} object
+   */
+  public LogEventsCursor copy() {
+    return LogEventsCursor.of(EventPosition.copyOf(user), EventPosition.copyOf(admin), EventPosition.copyOf(store));
+  }
+
+  public enum EventSource {
+    USER, ADMIN, STORE
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor(staticName = "of")
+  public static class EventPosition {
+
+    /**
+     * Time of the last returned event, in epoch milliseconds.
+     */
+    private long time;
+
+    /**
+     * Identifiers of the returned events with the same time, they are skipped on the next page.
+     */
+    private Set<String> ids = new LinkedHashSet<>();
+
+    /**
+     * Checks if the event with the given time and id has been already returned.
+     *
+     * @param eventTime - event time in epoch milliseconds
+     * @param eventId - event identifier
+     * @return true if event is returned before the position, false - otherwise
+     */
+    public boolean isReturned(long eventTime, String eventId) {
+      return eventTime > time || eventTime == time && ids.contains(eventId);
+    }
+
+    static EventPosition copyOf(EventPosition position) {
+      return position == null ? null : EventPosition.of(position.time, new LinkedHashSet<>(position.ids));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.login.domain.model;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Data;
+import org.folio.login.domain.dto.LogEventType;
+
+/**
+ * Log events filter, parsed from the CQL query and applied by Keycloak on the server side.
+ */
+@Data
+public class LogEventsFilter {
+
+  /**
+   * Folio user identifier, null if events of all users are requested.
+   */
+  private String userId;
+
+  /**
+   * Requested event types, null if events of all types are requested.
+   */
+  private Set<LogEventType> eventTypes;
+
+  /**
+   * Inclusive lower bound of event time in epoch milliseconds, nullable.
+   */
+  private Long dateFrom;
+
+  /**
+   * Inclusive upper bound of event time in epoch milliseconds, nullable.
+   */
+  private Long dateTo;
+
+  /**
+   * Defines if the query contains mutually exclusive conditions.
+   */
+  private boolean contradictory;
+
+  /**
+   * Restricts the filter by the folio user identifier.
+   *
+   * @param value - folio user identifier
+   */
+  public void restrictUserId(String value) {
+    if (userId != null && !userId.equals(value)) {
+      contradictory = true;
+    }
+    userId = value;
+  }
+
+  /**
+   * Restricts the filter by event types, the result is an intersection with the already requested types.
+   *
+   * @param types - event types
+   */
+  public void restrictEventTypes(Set<LogEventType> types) {
+    if (eventTypes == null) {
+      eventTypes = EnumSet.noneOf(LogEventType.class);
+      eventTypes.addAll(types);
+    } else {
+      eventTypes.retainAll(types);
+    }
+  }
+
+  /**
+   * Restricts the filter by event time range.
+   *
+   * @param from - inclusive lower bound of event time in epoch milliseconds, nullable
+   * @param to - inclusive upper bound of event time in epoch milliseconds, nullable
+   */
+  public void restrictTimeRange(Long from, Long to) {
+    if (from != null) {
+      dateFrom = dateFrom == null ? from : Math.max(dateFrom, from);
+    }
+    if (to != null) {
+      dateTo = dateTo == null ? to : Math.min(dateTo, to);
+    }
+  }
+
+  /**
+   * Checks if events of the given type are requested.
+   *
+   * @param eventType - event type to check
+   * @return true if events of the given type are requested, false - otherwise
+   */
+  public boolean includes(LogEventType eventType) {
+    return eventTypes == null || eventTypes.contains(eventType);
+  }
+
+  /**
+   * Checks if the filter can match no events at all.
+   *
+   * @return true if no event can match the filter, false - otherwise
+   */
+  public boolean matchesNothing() {
+    return contradictory
+      || eventTypes != null && eventTypes.isEmpty()
+      || Objects.nonNull(dateFrom) && Objects.nonNull(dateTo) && dateFrom > dateTo;
+  }
+}
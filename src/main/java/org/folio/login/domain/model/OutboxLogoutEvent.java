@@ -0,0 +1,13 @@
+package org.folio.login.domain.model;
+
+import org.folio.login.integration.kafka.event.LogoutEvent;
+
+/**
+ * Logout event, saved to the outbox table with its Kafka topic and message key.
+ *
+ * @param id - outbox record identifier, increasing in the order of saving
+ * @param topic - Kafka topic name
+ * @param messageKey - Kafka message key
+ * @param event - logout event
+ */
+public record OutboxLogoutEvent(long id, String topic, String messageKey, LogoutEvent event) {}
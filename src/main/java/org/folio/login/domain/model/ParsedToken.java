@@ -0,0 +1,63 @@
+package org.folio.login.domain.model;
+
+import static org.apache.commons.lang3.StringUtils.substringAfterLast;
+
+import java.time.Instant;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Claims of a JWT, decoded once per request and shared between the services handling it.
+ */
+@Data
+public class ParsedToken {
+
+  /**
+   * Encoded JWT.
+   */
+  @ToString.Exclude
+  private String jwt;
+
+  /**
+   * Token issuer, the Keycloak realm URL.
+   */
+  private String issuer;
+
+  /**
+   * Keycloak session identifier.
+   */
+  private String sessionId;
+
+  /**
+   * Token subject, the Keycloak user identifier.
+   */
+  private String subject;
+
+  /**
+   * Token expiration time in seconds since epoch.
+   */
+  private Long expiration;
+
+  /**
+   * Keycloak token type, e.g. "Bearer", "Refresh" or "Offline".
+   */
+  private String type;
+
+  /**
+   * Resolves tenant identifier as the realm name from the token issuer.
+   *
+   * @return tenant identifier, null if issuer is not present
+   */
+  public String getTenant() {
+    return substringAfterLast(issuer, "/");
+  }
+
+  /**
+   * Formats the token expiration time as an ISO-8601 date.
+   *
+   * @return expiration date, null if expiration claim is not present
+   */
+  public String getExpirationDate() {
+    return expiration != null ? Instant.ofEpochSecond(expiration).toString() : null;
+  }
+}
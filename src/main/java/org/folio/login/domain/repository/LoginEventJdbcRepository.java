@@ -0,0 +1,66 @@
+package org.folio.login.domain.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes login events with JDBC batch statements, bypassing the persistence context for bulk operations.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginEventJdbcRepository {
+
+  private static final String INSERT_SQL = "INSERT INTO %s.login_event "
+    + "(id, event_type, user_id, ip, browser_information, event_time) VALUES (?, ?, ?, ?, ?, ?) "
+    + "ON CONFLICT (id) DO NOTHING";
+  private static final String DELETE_SQL = "DELETE FROM %s.login_event WHERE id = ANY (?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  /**
+   * Inserts login events in batches, events with already existing identifiers are skipped.
+   *
+   * @param tenant - tenant identifier
+   * @param events - login events to insert
+   */
+  public void insertAll(String tenant, List<LoginEventEntity> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    var sql = INSERT_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    jdbcTemplate.batchUpdate(sql, events, events.size(), (statement, event) -> {
+      statement.setObject(1, event.getId());
+      statement.setString(2, event.getEventType().getValue());
+      statement.setObject(3, event.getUserId());
+      statement.setString(4, event.getIp());
+      statement.setString(5, event.getBrowserInformation());
+      statement.setObject(6, new Timestamp(event.getEventTime().getTime()), Types.TIMESTAMP);
+    });
+  }
+
+  /**
+   * Deletes login events by identifiers with a single statement.
+   *
+   * @param tenant - tenant identifier
+   * @param ids - login event identifiers
+   */
+  public void deleteAll(String tenant, Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    var sql = DELETE_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    jdbcTemplate.update(sql, statement ->
+      statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids.toArray())));
+  }
+}
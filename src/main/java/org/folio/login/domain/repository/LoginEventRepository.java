@@ -0,0 +1,11 @@
+package org.folio.login.domain.repository;
+
+import java.util.UUID;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoginEventRepository extends JpaRepository<LoginEventEntity, UUID>,
+  JpaSpecificationExecutor<LoginEventEntity> {}
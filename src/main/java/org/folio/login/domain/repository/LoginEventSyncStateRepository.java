@@ -0,0 +1,20 @@
+package org.folio.login.domain.repository;
+
+import org.folio.login.domain.entity.LoginEventSyncStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoginEventSyncStateRepository extends JpaRepository<LoginEventSyncStateEntity, String> {
+
+  /**
+   * Takes a transaction-level advisory lock with the given key without waiting for it.
+   *
+   * @param lockKey - lock key, hashed to the advisory lock identifier
+   * @return true if the lock is taken, false if it is held by another transaction
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext(:lockKey))", nativeQuery = true)
+  boolean tryLock(@Param("lockKey") String lockKey);
+}
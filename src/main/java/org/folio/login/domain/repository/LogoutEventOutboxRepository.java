@@ -0,0 +1,108 @@
+package org.folio.login.domain.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.folio.login.domain.model.OutboxLogoutEvent;
+import org.folio.login.integration.kafka.event.LogoutEvent;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores logout events in the tenant outbox table until they are sent to Kafka.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogoutEventOutboxRepository {
+
+  public static final String OUTBOX_TABLE = "logout_event_outbox";
+
+  private static final String INSERT_SQL = "INSERT INTO %s.logout_event_outbox "
+    + "(topic, message_key, event_type, user_id, keycloak_user_id, session_id) VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String LOCK_BATCH_SQL = "SELECT id, topic, message_key, event_type, user_id, "
+    + "keycloak_user_id, session_id FROM %s.logout_event_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+  private static final String DELETE_SQL = "DELETE FROM %s.logout_event_outbox WHERE id = ANY (?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  /**
+   * Saves logout event to the outbox table.
+   *
+   * @param tenant - tenant identifier
+   * @param topic - Kafka topic name
+   * @param messageKey - Kafka message key
+   * @param event - logout event
+   */
+  public void insert(String tenant, String topic, String messageKey, LogoutEvent event) {
+    var sql = INSERT_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    jdbcTemplate.update(sql, topic, messageKey, event.getType().name(), event.getUserId(),
+      event.getKeycloakUserId(), event.getSessionId());
+  }
+
+  /**
+   * Saves logout events of the same topic to the outbox table in a single batch, events are keyed by the user id.
+   *
+   * @param tenant - tenant identifier
+   * @param topic - Kafka topic name
+   * @param events - logout events
+   */
+  public void insertAll(String tenant, String topic, List<LogoutEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    var sql = INSERT_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    jdbcTemplate.batchUpdate(sql, events, events.size(), (statement, event) -> {
+      statement.setString(1, topic);
+      statement.setString(2, event.getUserId());
+      statement.setString(3, event.getType().name());
+      statement.setString(4, event.getUserId());
+      statement.setString(5, event.getKeycloakUserId());
+      statement.setString(6, event.getSessionId());
+    });
+  }
+
+  /**
+   * Selects the oldest outbox events and locks them until the end of the current transaction. Events, locked by
+   * another transaction, are skipped, so concurrent relays never read the same events.
+   *
+   * @param tenant - tenant identifier
+   * @param limit - maximum number of events
+   * @return locked outbox events in the order of saving
+   */
+  public List<OutboxLogoutEvent> lockBatch(String tenant, int limit) {
+    var sql = LOCK_BATCH_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    return jdbcTemplate.query(sql, LogoutEventOutboxRepository::mapOutboxEvent, limit);
+  }
+
+  /**
+   * Deletes outbox events by identifiers with a single statement.
+   *
+   * @param tenant - tenant identifier
+   * @param ids - outbox event identifiers
+   */
+  public void deleteAll(String tenant, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    var sql = DELETE_SQL.formatted(folioModuleMetadata.getDBSchemaName(tenant));
+    jdbcTemplate.update(sql, statement ->
+      statement.setArray(1, statement.getConnection().createArrayOf("bigint", ids.toArray())));
+  }
+
+  private static OutboxLogoutEvent mapOutboxEvent(ResultSet resultSet, int rowNum) throws SQLException {
+    var event = LogoutEvent.builder()
+      .type(LogoutEvent.Type.valueOf(resultSet.getString("event_type")))
+      .userId(resultSet.getString("user_id"))
+      .keycloakUserId(resultSet.getString("keycloak_user_id"))
+      .sessionId(resultSet.getString("session_id"))
+      .build();
+    return new OutboxLogoutEvent(resultSet.getLong("id"), resultSet.getString("topic"),
+      resultSet.getString("message_key"), event);
+  }
+}
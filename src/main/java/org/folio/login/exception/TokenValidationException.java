@@ -0,0 +1,7 @@
+package org.folio.login.exception;
+
+public class TokenValidationException extends RuntimeException {
+  public TokenValidationException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.login.integration.kafka;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.domain.model.OutboxLogoutEvent;
+import org.folio.login.domain.repository.LogoutEventOutboxRepository;
+import org.folio.login.integration.kafka.event.LogoutEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Sends logout events from the tenant outbox table to Kafka.
+ *
+ * <p>Events of a batch are sent without waiting for each other, so the producer groups them into compressed record
+ * batches. Events are deleted only after all of them are acknowledged, otherwise the transaction is rolled back and
+ * the batch is sent again by the next relay, so delivery is at-least-once.</p>
+ *
+ * <p>The relay uses its own producer, blocking for Kafka metadata or buffer space for at most
+ * {@code application.logout-event-outbox.max-block}. The batch is stopped at the first event that cannot be sent,
+ * so the outbox rows are not locked for longer than a single blocked sending when Kafka is unavailable.</p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "application.logout-event-outbox.enabled", havingValue = "true")
+public class LogoutEventOutboxRelay implements DisposableBean {
+
+  private final LogoutEventOutboxRepository outboxRepository;
+  private final LogoutEventOutboxProperties outboxProperties;
+  private final KafkaTemplate<String, LogoutEvent> kafkaTemplate;
+
+  @Autowired
+  public LogoutEventOutboxRelay(LogoutEventOutboxRepository outboxRepository,
+    LogoutEventOutboxProperties outboxProperties, ProducerFactory<String, LogoutEvent> producerFactory) {
+    this(outboxRepository, outboxProperties, new KafkaTemplate<>(producerFactory,
+      Map.<String, Object>of(ProducerConfig.MAX_BLOCK_MS_CONFIG, outboxProperties.getMaxBlock().toMillis())));
+  }
+
+  LogoutEventOutboxRelay(LogoutEventOutboxRepository outboxRepository, LogoutEventOutboxProperties outboxProperties,
+    KafkaTemplate<String, LogoutEvent> kafkaTemplate) {
+    this.outboxRepository = outboxRepository;
+    this.outboxProperties = outboxProperties;
+    this.kafkaTemplate = kafkaTemplate;
+  }
+
+  /**
+   * Sends a single batch of the oldest outbox events and deletes them. If an event cannot be sent, the events after
+   * it are left in the outbox for the next relay.
+   *
+   * @param tenant - tenant identifier
+   * @return number of sent events, less than the batch size if the outbox is drained or sending is stopped
+   * @throws IllegalStateException if any of the sent events is not acknowledged by Kafka
+   */
+  @Transactional
+  public int relayBatch(String tenant) {
+    var batch = outboxRepository.lockBatch(tenant, outboxProperties.getRelayBatchSize());
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    var sentEvents = new ArrayList<OutboxLogoutEvent>(batch.size());
+    var futures = new ArrayList<CompletableFuture<?>>(batch.size());
+    for (var event : batch) {
+      try {
+        futures.add(kafkaTemplate.send(event.topic(), event.messageKey(), event.event()));
+        sentEvents.add(event);
+      } catch (Exception e) {
+        log.warn("Failed to send logout event, stopping the batch: tenant = {}, id = {}", tenant, event.id(), e);
+        break;
+      }
+    }
+
+    if (sentEvents.isEmpty()) {
+      return 0;
+    }
+
+    awaitAcknowledgements(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)), sentEvents.size());
+    outboxRepository.deleteAll(tenant, sentEvents.stream().map(OutboxLogoutEvent::id).toList());
+    log.debug("Relayed logout events from outbox: tenant = {}, count = {}", tenant, sentEvents.size());
+    return sentEvents.size();
+  }
+
+  @Override
+  public void destroy() {
+    kafkaTemplate.destroy();
+  }
+
+  private void awaitAcknowledgements(CompletableFuture<Void> sendFuture, int count) {
+    var timeout = outboxProperties.getSendTimeout();
+    try {
+      sendFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while sending logout events", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to send logout events: count = " + count, e.getCause());
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("Logout events are not acknowledged in " + timeout + ": count = " + count, e);
+    }
+  }
+}
@@ -3,15 +3,16 @@ package org.folio.login.integration.kafka;
 import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT;
 import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT_ALL;
 
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.folio.login.exception.TokenParsingException;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.domain.model.ParsedToken;
+import org.folio.login.domain.repository.LogoutEventOutboxRepository;
 import org.folio.login.integration.kafka.configuration.property.KafkaProperties;
 import org.folio.login.integration.kafka.event.LogoutEvent;
 import org.folio.login.util.KafkaTopicUtils;
 import org.folio.spring.FolioExecutionContext;
-import org.keycloak.jose.jws.JWSInputException;
-import org.keycloak.util.TokenUtil;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -25,18 +26,14 @@ public class LogoutEventPublisher {
   private final KafkaProperties kafkaProperties;
   private final FolioExecutionContext context;
   private final KafkaTemplate<String, LogoutEvent> kafkaTemplate;
+  private final LogoutEventOutboxProperties outboxProperties;
+  private final LogoutEventOutboxRepository outboxRepository;
 
-  public void publishLogoutEvent(String refreshToken) {
-    try {
-      var token = TokenUtil.getRefreshToken(refreshToken);
-      var userId = context.getUserId().toString();
-      var sessionId = token.getSessionId();
-      var event = LogoutEvent.builder().userId(userId).sessionId(sessionId).type(LOGOUT).build();
-      send(event);
-    } catch (JWSInputException e) {
-      log.debug("Cannot parse token", e);
-      throw new TokenParsingException("Cannot parse refresh token");
-    }
+  public void publishLogoutEvent(ParsedToken refreshToken) {
+    var userId = context.getUserId().toString();
+    var sessionId = refreshToken.getSessionId();
+    var event = LogoutEvent.builder().userId(userId).sessionId(sessionId).type(LOGOUT).build();
+    send(event);
   }
 
   public void publishLogoutAllEvent(String keycloakUserId) {
@@ -45,6 +42,30 @@ public class LogoutEventPublisher {
     send(event);
   }
 
+  /**
+   * Publishes logout-all events of the users, logged out by an administrator, events are keyed by the user id.
+   *
+   * @param keycloakUserIds - {@link Map} with folio user id as a key and Keycloak user id as a value
+   */
+  public void publishLogoutAllEvents(Map<String, String> keycloakUserIds) {
+    if (keycloakUserIds.isEmpty()) {
+      return;
+    }
+
+    var topicName = getTopicName();
+    var events = keycloakUserIds.entrySet().stream()
+      .map(entry -> LogoutEvent.builder().userId(entry.getKey()).keycloakUserId(entry.getValue()).type(LOGOUT_ALL)
+        .build())
+      .toList();
+
+    if (outboxProperties.isEnabled()) {
+      outboxRepository.insertAll(context.getTenantId(), topicName, events);
+    } else {
+      events.forEach(event -> kafkaTemplate.send(topicName, event.getUserId(), event));
+    }
+    log.debug("Sent logout-all events: topic = {}, count = {}", topicName, events.size());
+  }
+
   private String getTopicName() {
     return KafkaTopicUtils.getTopicName(TOPIC_NAME, context.getTenantId(),
       kafkaProperties.isProducerTenantCollection());
@@ -54,7 +75,17 @@ public class LogoutEventPublisher {
     return context.getUserId().toString();
   }
 
+  /**
+   * Sends the event to Kafka or, with the outbox enabled, saves it to the tenant outbox table, so the request does not
+   * wait for Kafka metadata or buffer space when brokers are slow or unavailable.
+   */
   private void send(LogoutEvent body) {
+    if (outboxProperties.isEnabled()) {
+      outboxRepository.insert(context.getTenantId(), getTopicName(), getMessageKey(), body);
+      log.debug("Saved event to outbox: topic = {}", this::getTopicName);
+      return;
+    }
+
     kafkaTemplate.send(getTopicName(), getMessageKey(), body);
     log.debug("Sent event to topic: {}", this::getTopicName);
   }
@@ -6,13 +6,17 @@ import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED_VAL
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import java.util.List;
+import java.util.Map;
 import org.folio.login.domain.model.KeycloakAuthentication;
 import org.folio.login.domain.model.PasswordCredential;
 import org.folio.login.domain.model.UserCredentials;
+import org.keycloak.representations.idm.AdminEventRepresentation;
+import org.keycloak.representations.idm.EventRepresentation;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.DeleteExchange;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
@@ -85,4 +89,63 @@ public interface KeycloakClient {
     @PathVariable("userId") String userId,
     @PathVariable("credId") String credId,
     @RequestHeader(AUTHORIZATION) String token);
+
+  /**
+   * Retrieves brute force detection status of a user.
+   *
+   * @param realm - tenant realm name
+   * @param userId - user's id in keycloak
+   * @param token - bearer token
+   * @return {@link Map} with brute force detection status properties
+   */
+  @GetExchange(value = "/admin/realms/{realm}/attack-detection/brute-force/users/{userId}")
+  Map<String, Object> getBruteForceUserStatus(@PathVariable("realm") String realm,
+    @PathVariable("userId") String userId,
+    @RequestHeader(AUTHORIZATION) String token);
+
+  /**
+   * Retrieves user events, newest first.
+   *
+   * @param realm - tenant realm name
+   * @param types - event types to include
+   * @param userId - user's id in keycloak, all users if null
+   * @param dateFrom - inclusive lower bound of event time in epoch milliseconds
+   * @param dateTo - inclusive upper bound of event time in epoch milliseconds
+   * @param first - number of events to skip
+   * @param max - maximum number of events to return
+   * @param token - bearer token
+   * @return list of {@link EventRepresentation} objects
+   */
+  @GetExchange(value = "/admin/realms/{realm}/events")
+  List<EventRepresentation> getEvents(@PathVariable("realm") String realm,
+    @RequestParam(value = "type", required = false) List<String> types,
+    @RequestParam(value = "user", required = false) String userId,
+    @RequestParam(value = "dateFrom", required = false) String dateFrom,
+    @RequestParam(value = "dateTo", required = false) String dateTo,
+    @RequestParam("first") int first,
+    @RequestParam("max") int max,
+    @RequestHeader(AUTHORIZATION) String token);
+
+  /**
+   * Retrieves admin events, newest first.
+   *
+   * @param realm - tenant realm name
+   * @param operationTypes - operation types to include
+   * @param resourcePath - resource path pattern, supports {@code *} wildcard
+   * @param dateFrom - inclusive lower bound of event time in epoch milliseconds
+   * @param dateTo - inclusive upper bound of event time in epoch milliseconds
+   * @param first - number of events to skip
+   * @param max - maximum number of events to return
+   * @param token - bearer token
+   * @return list of {@link AdminEventRepresentation} objects
+   */
+  @GetExchange(value = "/admin/realms/{realm}/admin-events")
+  List<AdminEventRepresentation> getAdminEvents(@PathVariable("realm") String realm,
+    @RequestParam(value = "operationTypes", required = false) List<String> operationTypes,
+    @RequestParam(value = "resourcePath", required = false) String resourcePath,
+    @RequestParam(value = "dateFrom", required = false) String dateFrom,
+    @RequestParam(value = "dateTo", required = false) String dateTo,
+    @RequestParam("first") int first,
+    @RequestParam("max") int max,
+    @RequestHeader(AUTHORIZATION) String token);
 }
@@ -28,6 +28,19 @@ public interface KeycloakUserClient {
     @RequestParam("q") String attrQuery,
     @RequestParam("briefRepresentation") boolean briefRepresentation);
 
+  /**
+   * Retrieves user by id.
+   *
+   * @param token - bearer token
+   * @param realmName - tenant realm name
+   * @param userId - Keycloak user identifier
+   * @return found {@link KeycloakUser}
+   */
+  @GetExchange(value = "/admin/realms/{realm}/users/{id}")
+  KeycloakUser getUser(@RequestHeader(AUTHORIZATION) String token,
+    @PathVariable("realm") String realmName,
+    @PathVariable("id") String userId);
+
   @GetExchange(value = "/admin/realms/{realm}/users")
   List<KeycloakUser> findUsers(@RequestHeader(AUTHORIZATION) String token,
     @PathVariable("realm") String realmName,
@@ -14,6 +14,11 @@ public class KeycloakAdminProperties {
    */
   private String clientId;
 
+  /**
+   * Keycloak admin client secret, if specified - the client credentials grant is used instead of the password grant.
+   */
+  private String clientSecret;
+
   /**
    * Keycloak admin password.
    */
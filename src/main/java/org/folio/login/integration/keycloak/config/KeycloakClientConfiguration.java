@@ -1,24 +1,137 @@
 package org.folio.login.integration.keycloak.config;
 
-import org.folio.common.utils.tls.HttpClientTlsUtils;
+import static org.folio.common.utils.tls.Utils.IS_HOSTNAME_VERIFICATION_DISABLED;
+import static org.folio.common.utils.tls.Utils.buildSslContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.folio.login.integration.keycloak.KeycloakClient;
 import org.folio.login.integration.keycloak.KeycloakUserClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
 @Configuration
+@EnableConfigurationProperties({KeycloakProperties.class})
 public class KeycloakClientConfiguration {
 
+  private static final String POOL_METRICS_NAME = "keycloak";
+  private static final String EXECUTOR_THREAD_PREFIX = "keycloak-";
+
   @Bean
-  KeycloakClient keycloakClient(KeycloakProperties properties) {
-    return HttpClientTlsUtils.buildHttpServiceClient(
-      RestClient.builder(), properties.getTls(), properties.getUrl(), KeycloakClient.class);
+  KeycloakClient keycloakClient(KeycloakProperties properties,
+    @Qualifier("keycloakHttpClient") CloseableHttpClient keycloakHttpClient, ObservationRegistry observationRegistry) {
+    return buildHttpServiceClient(properties, keycloakHttpClient, observationRegistry, KeycloakClient.class);
   }
 
   @Bean
-  KeycloakUserClient keycloakUserClient(KeycloakProperties properties) {
-    return HttpClientTlsUtils.buildHttpServiceClient(
-      RestClient.builder(), properties.getTls(), properties.getUrl(), KeycloakUserClient.class);
+  KeycloakUserClient keycloakUserClient(KeycloakProperties properties,
+    @Qualifier("keycloakHttpClient") CloseableHttpClient keycloakHttpClient, ObservationRegistry observationRegistry) {
+    return buildHttpServiceClient(properties, keycloakHttpClient, observationRegistry, KeycloakUserClient.class);
+  }
+
+  /**
+   * Pooled HTTP client shared by all Keycloak clients, so connections and TLS sessions are reused between requests.
+   */
+  @Bean(name = "keycloakHttpClient", destroyMethod = "close")
+  CloseableHttpClient keycloakHttpClient(KeycloakProperties properties, MeterRegistry meterRegistry) {
+    var httpClientProperties = properties.getHttpClient();
+    var connectionManager = buildConnectionManager(properties);
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRICS_NAME).bindTo(meterRegistry);
+
+    var requestConfig = RequestConfig.custom()
+      .setConnectionRequestTimeout(Timeout.of(httpClientProperties.getConnectionRequestTimeout()))
+      .setResponseTimeout(Timeout.of(httpClientProperties.getResponseTimeout()))
+      .build();
+
+    return HttpClients.custom()
+      .setConnectionManager(connectionManager)
+      .setDefaultRequestConfig(requestConfig)
+      .evictExpiredConnections()
+      .evictIdleConnections(TimeValue.of(httpClientProperties.getIdleTimeout()))
+      .build();
+  }
+
+  /**
+   * Executor for parallel Keycloak requests of bulk operations. With virtual threads enabled, each request runs on its
+   * own virtual thread and the pool size limits the number of concurrent requests instead of the number of threads.
+   */
+  @Bean("keycloakExecutor")
+  AsyncTaskExecutor keycloakExecutor(KeycloakProperties properties, TaskDecorator taskDecorator,
+    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+    var poolSize = properties.getExecutor().getPoolSize();
+    if (virtualThreadsEnabled) {
+      var executor = new SimpleAsyncTaskExecutor(EXECUTOR_THREAD_PREFIX);
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(poolSize);
+      executor.setTaskDecorator(taskDecorator);
+      return executor;
+    }
+
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix(EXECUTOR_THREAD_PREFIX);
+    executor.setTaskDecorator(taskDecorator);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+
+  private static PoolingHttpClientConnectionManager buildConnectionManager(KeycloakProperties properties) {
+    var httpClientProperties = properties.getHttpClient();
+    var connectionConfig = ConnectionConfig.custom()
+      .setConnectTimeout(Timeout.of(httpClientProperties.getConnectTimeout()))
+      .setSocketTimeout(Timeout.of(httpClientProperties.getResponseTimeout()))
+      .setValidateAfterInactivity(TimeValue.of(httpClientProperties.getValidateAfterInactivity()))
+      .build();
+
+    var builder = PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(httpClientProperties.getMaxConnections())
+      .setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
+      .setDefaultConnectionConfig(connectionConfig);
+
+    var tls = properties.getTls();
+    if (tls != null && tls.isEnabled()) {
+      var tlsStrategyBuilder = ClientTlsStrategyBuilder.create().setSslContext(buildSslContext(tls));
+      if (IS_HOSTNAME_VERIFICATION_DISABLED) {
+        tlsStrategyBuilder.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+      }
+      builder.setTlsSocketStrategy(tlsStrategyBuilder.buildClassic());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Builds HTTP service client, its requests are observed as {@code http.client.requests} metrics.
+   */
+  private static <T> T buildHttpServiceClient(KeycloakProperties properties, CloseableHttpClient httpClient,
+    ObservationRegistry observationRegistry, Class<T> clientClass) {
+    var restClient = RestClient.builder()
+      .baseUrl(properties.getUrl())
+      .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+      .observationRegistry(observationRegistry)
+      .build();
+    return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build().createClient(clientClass);
   }
 }
@@ -0,0 +1,14 @@
+package org.folio.login.integration.keycloak.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class KeycloakExecutorProperties {
+
+  /**
+   * Maximum number of Keycloak requests executed in parallel for a bulk operation.
+   */
+  @Positive
+  private int poolSize = 8;
+}
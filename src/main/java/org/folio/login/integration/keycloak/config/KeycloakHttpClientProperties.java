@@ -0,0 +1,52 @@
+package org.folio.login.integration.keycloak.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+
+@Data
+public class KeycloakHttpClientProperties {
+
+  /**
+   * Maximum number of pooled connections to Keycloak.
+   */
+  @Positive
+  private int maxConnections = 100;
+
+  /**
+   * Maximum number of pooled connections per Keycloak host.
+   */
+  @Positive
+  private int maxConnectionsPerRoute = 100;
+
+  /**
+   * Timeout for establishing a new connection.
+   */
+  @NotNull
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Timeout for waiting for a response from Keycloak.
+   */
+  @NotNull
+  private Duration responseTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Timeout for leasing a connection from the pool if all connections are in use.
+   */
+  @NotNull
+  private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Period of inactivity after which a pooled connection is closed.
+   */
+  @NotNull
+  private Duration idleTimeout = Duration.ofSeconds(60);
+
+  /**
+   * Period of inactivity after which a pooled connection is validated before it is reused.
+   */
+  @NotNull
+  private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -16,6 +16,12 @@ public class KeycloakProperties {
    */
   private String url;
 
+  /**
+   * Keycloak URL in the issuer of the tokens, e.g. the public Keycloak hostname. If set, refresh tokens issued by
+   * another Keycloak are rejected without calling Keycloak.
+   */
+  private String issuerUrl;
+
   /**
    * Keycloak client suffix, e.g.: {@code -login-application}.
    */
@@ -25,4 +31,8 @@ public class KeycloakProperties {
   private TlsProperties tls;
   @NestedConfigurationProperty
   private KeycloakAdminProperties admin;
+  @NestedConfigurationProperty
+  private KeycloakExecutorProperties executor = new KeycloakExecutorProperties();
+  @NestedConfigurationProperty
+  private KeycloakHttpClientProperties httpClient = new KeycloakHttpClientProperties();
 }
@@ -0,0 +1,22 @@
+package org.folio.login.mapper;
+
+import static org.mapstruct.InjectionStrategy.CONSTRUCTOR;
+
+import org.folio.login.domain.dto.LogEvent;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for mapping {@link LogEvent} objects to {@link LoginEventEntity} objects and vice versa.
+ */
+@Mapper(componentModel = "spring", injectionStrategy = CONSTRUCTOR)
+public interface LoginEventMapper {
+
+  @Mapping(target = "eventTime", source = "timestamp")
+  LoginEventEntity toEntity(LogEvent logEvent);
+
+  @Mapping(target = "timestamp", source = "entity.eventTime")
+  @Mapping(target = "metadata", ignore = true)
+  LogEvent toDto(LoginEventEntity entity, String tenant);
+}
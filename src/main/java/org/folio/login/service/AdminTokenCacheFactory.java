@@ -26,6 +26,7 @@ public class AdminTokenCacheFactory {
       .initialCapacity(1)
       .maximumSize(1)
       .removalListener((k, jwt, cause) -> log.debug("Cached access token removed: key={}, cause={}", k, cause))
+      .recordStats()
       .build();
   }
 
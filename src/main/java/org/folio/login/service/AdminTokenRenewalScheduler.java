@@ -0,0 +1,130 @@
+package org.folio.login.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.configuration.property.TokenCacheProperties;
+import org.folio.login.domain.model.KeycloakAuthentication;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renews the cached admin token in background before the cache entry expires, so that request threads always find
+ * a valid token in the cache. Failed renewals are retried with exponential backoff while the current token is
+ * still cached.
+ */
+@Log4j2
+@Component
+public class AdminTokenRenewalScheduler {
+
+  static final String RENEWAL_TIMER = "admin.token.renewal";
+  static final String RENEWAL_FAILURES = "admin.token.renewal.failures";
+  private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+  private final Cache<String, KeycloakAuthentication> adminTokenCache;
+  private final TokenCacheProperties tokenCacheProperties;
+  private final Timer successTimer;
+  private final Timer failureTimer;
+  private final Counter failureCounter;
+  private final AtomicBoolean renewalScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+    Thread.ofPlatform().name("admin-token-renewal").daemon().factory());
+
+  public AdminTokenRenewalScheduler(@Qualifier("adminTokenCache") Cache<String, KeycloakAuthentication> adminTokenCache,
+    TokenCacheProperties tokenCacheProperties, MeterRegistry meterRegistry) {
+    this.adminTokenCache = adminTokenCache;
+    this.tokenCacheProperties = tokenCacheProperties;
+    this.successTimer = renewalTimer(meterRegistry, "success");
+    this.failureTimer = renewalTimer(meterRegistry, "failure");
+    this.failureCounter = Counter.builder(RENEWAL_FAILURES)
+      .description("Number of failed background admin token renewals")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Schedules a background renewal of the cached token, if it is not scheduled yet.
+   *
+   * @param key - cache key of the admin token
+   * @param tokenLoader - supplier, fetching a new admin token from Keycloak
+   */
+  public void scheduleRenewal(String key, Supplier<KeycloakAuthentication> tokenLoader) {
+    if (renewalScheduled.compareAndSet(false, true)) {
+      scheduleNextRenewal(key, tokenLoader);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void scheduleNextRenewal(String key, Supplier<KeycloakAuthentication> tokenLoader) {
+    var expiresAfter = getExpiresAfter(key);
+    if (expiresAfter.isEmpty()) {
+      renewalScheduled.set(false);
+      return;
+    }
+
+    var renewAhead = Duration.ofSeconds(tokenCacheProperties.getRenewAheadSec());
+    var entryTtl = expiresAfter.get();
+    var delay = entryTtl.compareTo(renewAhead) > 0 ? entryTtl.minus(renewAhead) : entryTtl.dividedBy(2);
+    log.debug("Scheduling admin token renewal: delay = {} ms", delay::toMillis);
+    executor.schedule(() -> renew(key, tokenLoader, 0), delay.toNanos(), NANOSECONDS);
+  }
+
+  private void renew(String key, Supplier<KeycloakAuthentication> tokenLoader, int attempt) {
+    var startTime = System.nanoTime();
+    try {
+      var token = tokenLoader.get();
+      adminTokenCache.put(key, token);
+      successTimer.record(System.nanoTime() - startTime, NANOSECONDS);
+      log.debug("Admin token renewed in background");
+      scheduleNextRenewal(key, tokenLoader);
+    } catch (Exception e) {
+      failureTimer.record(System.nanoTime() - startTime, NANOSECONDS);
+      failureCounter.increment();
+      scheduleRetry(key, tokenLoader, attempt, e);
+    }
+  }
+
+  private void scheduleRetry(String key, Supplier<KeycloakAuthentication> tokenLoader, int attempt, Exception e) {
+    var expiresAfter = getExpiresAfter(key);
+    if (expiresAfter.isEmpty()) {
+      log.warn("Failed to renew admin token, it will be fetched on the next request", e);
+      renewalScheduled.set(false);
+      return;
+    }
+
+    var backoff = tokenCacheProperties.getRenewalRetryDelay().multipliedBy(1L << Math.min(attempt, 16));
+    var delay = min(min(backoff, MAX_RETRY_DELAY), expiresAfter.get());
+    log.warn("Failed to renew admin token, retrying in {} ms [attempt: {}]", delay.toMillis(), attempt + 1, e);
+    executor.schedule(() -> renew(key, tokenLoader, attempt + 1), delay.toNanos(), NANOSECONDS);
+  }
+
+  private Optional<Duration> getExpiresAfter(String key) {
+    return adminTokenCache.policy().expireVariably()
+      .flatMap(expiration -> expiration.getExpiresAfter(key));
+  }
+
+  private static Duration min(Duration first, Duration second) {
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+
+  private static Timer renewalTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder(RENEWAL_TIMER)
+      .description("Latency of background admin token renewals")
+      .tag("outcome", outcome)
+      .register(meterRegistry);
+  }
+}
@@ -1,16 +1,23 @@
 package org.folio.login.service;
 
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
 import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.model.KeycloakAuthentication;
 import org.folio.login.domain.model.KeycloakRealmConfiguration;
 import org.folio.login.integration.keycloak.KeycloakClient;
+import org.folio.login.integration.keycloak.config.KeycloakAdminProperties;
 import org.folio.login.integration.keycloak.config.KeycloakProperties;
 import org.folio.login.util.TokenRequestHelper;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 @Log4j2
 @Service
@@ -19,35 +26,69 @@ public class AdminTokenService {
 
   private static final String BEARER = "Bearer";
   private static final String CACHE_KEY = "admin-cli-token";
-  
+
   private final KeycloakProperties keycloakProperties;
   private final KeycloakClient keycloakClient;
+  private final AdminTokenRenewalScheduler adminTokenRenewalScheduler;
   @Qualifier("adminTokenCache")
   private final Cache<String, KeycloakAuthentication> adminTokenCache;
 
   public String getAdminToken(String userAgent, String forwardedFor) {
     var token = adminTokenCache.get(CACHE_KEY, key -> {
       log.debug("Cache miss - fetching new admin token from Keycloak");
-      var adminProperties = keycloakProperties.getAdmin();
-      var realmConfig = new KeycloakRealmConfiguration()
-        .clientId(adminProperties.getClientId());
-
-      var credentials = new LoginCredentials()
-        .password(adminProperties.getPassword())
-        .username(adminProperties.getUsername());
-
-      var requestData = TokenRequestHelper.preparePasswordRequestBody(credentials, realmConfig);
-      var realm = adminProperties.getRealm();
-      var fetchedToken = keycloakClient.callTokenEndpoint(realm, requestData, userAgent, forwardedFor);
-
+      var fetchedToken = fetchAdminToken(userAgent, forwardedFor);
       log.debug("Admin token cached with dynamic TTL based on expiresIn: {} seconds", fetchedToken.getExpiresIn());
       return fetchedToken;
     });
 
+    adminTokenRenewalScheduler.scheduleRenewal(CACHE_KEY, () -> fetchAdminToken(null, null));
     log.debug("Returning admin token");
     return formatBearerToken(token.getAccessToken());
   }
 
+  private KeycloakAuthentication fetchAdminToken(String userAgent, String forwardedFor) {
+    var adminProperties = keycloakProperties.getAdmin();
+    var realmConfig = new KeycloakRealmConfiguration()
+      .clientId(adminProperties.getClientId())
+      .clientSecret(defaultString(adminProperties.getClientSecret()));
+
+    if (isNotBlank(adminProperties.getClientSecret())) {
+      var requestData = TokenRequestHelper.prepareClientCredentialsRequestBody(realmConfig);
+      return keycloakClient.callTokenEndpoint(adminProperties.getRealm(), requestData, userAgent, forwardedFor);
+    }
+
+    return refreshAdminToken(adminProperties.getRealm(), realmConfig, userAgent, forwardedFor)
+      .orElseGet(() -> fetchAdminTokenWithPassword(adminProperties, realmConfig, userAgent, forwardedFor));
+  }
+
+  private Optional<KeycloakAuthentication> refreshAdminToken(String realm, KeycloakRealmConfiguration realmConfig,
+    String userAgent, String forwardedFor) {
+    var currentToken = adminTokenCache.policy().getIfPresentQuietly(CACHE_KEY);
+    if (currentToken == null || isBlank(currentToken.getRefreshToken())) {
+      return Optional.empty();
+    }
+
+    try {
+      var requestData = TokenRequestHelper.prepareRefreshRequestBody(currentToken.getRefreshToken(), realmConfig);
+      log.debug("Refreshing admin token using refresh token grant");
+      return Optional.of(keycloakClient.callTokenEndpoint(realm, requestData, userAgent, forwardedFor));
+    } catch (RestClientException e) {
+      log.debug("Failed to refresh admin token, falling back to password grant", e);
+      return Optional.empty();
+    }
+  }
+
+  private KeycloakAuthentication fetchAdminTokenWithPassword(KeycloakAdminProperties adminProperties,
+    KeycloakRealmConfiguration realmConfig, String userAgent, String forwardedFor) {
+    var credentials = new LoginCredentials()
+      .password(adminProperties.getPassword())
+      .username(adminProperties.getUsername());
+
+    var requestData = TokenRequestHelper.preparePasswordRequestBody(credentials, realmConfig);
+    log.debug("Fetching admin token using password grant");
+    return keycloakClient.callTokenEndpoint(adminProperties.getRealm(), requestData, userAgent, forwardedFor);
+  }
+
   private String formatBearerToken(String accessToken) {
     return String.format("%s %s", BEARER, accessToken);
   }
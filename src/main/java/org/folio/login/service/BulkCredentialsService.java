@@ -0,0 +1,176 @@
+package org.folio.login.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.apache.commons.lang3.StringUtils.isAllBlank;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.login.domain.model.CredentialsImportResult.Status.ALREADY_EXISTS;
+import static org.folio.login.domain.model.CredentialsImportResult.Status.CREATED;
+import static org.folio.login.domain.model.CredentialsImportResult.Status.FAILED;
+import static org.folio.login.domain.model.CredentialsImportResult.Status.INVALID;
+import static org.folio.login.domain.model.CredentialsImportResult.Status.NOT_FOUND;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.domain.dto.LoginCredentials;
+import org.folio.login.domain.model.CredentialsImportResult;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Creates credentials of many users from an NDJSON stream, e.g. when a library is migrated.
+ *
+ * <p>Records are read one by one and processed on the Keycloak executor while the next records are read, at most
+ * {@value #MAX_IN_FLIGHT} records at a time. Results are written in the order of the records as soon as they are
+ * available, so neither the request nor the response is held in memory. A record longer than
+ * {@value #MAX_RECORD_LENGTH} characters is skipped and reported as invalid.</p>
+ *
+ * <p>Each record is processed by the single-user pipeline, so it makes its own users-keycloak and Keycloak user
+ * lookup requests: neither API accepts a batch of users, and the Keycloak user id cache is cold for users that are
+ * migrated. The throughput is bounded by the in-flight window and the Keycloak executor pool size.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class BulkCredentialsService {
+
+  static final int MAX_RECORD_LENGTH = 64 * 1024;
+  private static final int MAX_IN_FLIGHT = 50;
+  private static final int FLUSH_SIZE = 100;
+
+  private final CredentialsService credentialsService;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ObjectMapper objectMapper;
+  @Qualifier("keycloakExecutor")
+  private final Executor keycloakExecutor;
+
+  /**
+   * Creates credentials for each {@link LoginCredentials} line of the input and writes a
+   * {@link CredentialsImportResult} line per record to the output.
+   *
+   * @param input - NDJSON stream of {@link LoginCredentials}, blank lines are skipped
+   * @param output - NDJSON stream of {@link CredentialsImportResult}
+   * @throws IOException if the input cannot be read or the output cannot be written
+   */
+  public void createAuthCredentials(InputStream input, OutputStream output) throws IOException {
+    var reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+    Queue<CompletableFuture<CredentialsImportResult>> inFlight = new ArrayDeque<>();
+    var lineNumber = 0L;
+    var written = 0L;
+    var line = new StringBuilder();
+    while (readLine(reader, line)) {
+      lineNumber++;
+      if (line.length() > MAX_RECORD_LENGTH) {
+        inFlight.add(completedFuture(result(lineNumber, null, INVALID,
+          "Record exceeds " + MAX_RECORD_LENGTH + " characters")));
+      } else if (!isBlank(line)) {
+        inFlight.add(submit(lineNumber, line.toString()));
+      }
+      if (inFlight.size() >= MAX_IN_FLIGHT) {
+        written = write(inFlight.poll().join(), output, written);
+      }
+    }
+
+    while (!inFlight.isEmpty()) {
+      written = write(inFlight.poll().join(), output, written);
+    }
+    output.flush();
+    log.info("Bulk credentials processed [tenant: {}, records: {}]", folioExecutionContext.getTenantId(), written);
+  }
+
+  private CompletableFuture<CredentialsImportResult> submit(long lineNumber, String line) {
+    LoginCredentials credentials;
+    try {
+      credentials = objectMapper.readValue(line, LoginCredentials.class);
+    } catch (JacksonException e) {
+      return completedFuture(result(lineNumber, null, INVALID, "Invalid JSON: " + e.getOriginalMessage()));
+    }
+
+    if (credentials == null || isBlank(credentials.getPassword())
+      || isAllBlank(credentials.getUserId(), credentials.getUsername())) {
+      return completedFuture(result(lineNumber, credentials, INVALID, "Password and userId or username are required"));
+    }
+
+    return supplyAsync(() -> createAuthCredentials(lineNumber, credentials), keycloakExecutor);
+  }
+
+  private CredentialsImportResult createAuthCredentials(long lineNumber, LoginCredentials credentials) {
+    try {
+      credentialsService.createAuthCredentials(credentials);
+      return result(lineNumber, credentials, CREATED, null);
+    } catch (RequestValidationException e) {
+      return result(lineNumber, credentials, ALREADY_EXISTS, e.getMessage());
+    } catch (NotFoundException | HttpClientErrorException.NotFound e) {
+      return result(lineNumber, credentials, NOT_FOUND, e.getMessage());
+    } catch (Exception e) {
+      log.warn("Failed to create credentials [line: {}, userId: {}]", lineNumber, credentials.getUserId(), e);
+      return result(lineNumber, credentials, FAILED, e.getMessage());
+    }
+  }
+
+  /**
+   * Reads the next line without the line terminator, at most {@value #MAX_RECORD_LENGTH} + 1 characters are kept, so
+   * a longer line is detected by its length while the rest of it is skipped.
+   *
+   * @return false if the end of the input is reached before any character is read
+   */
+  private static boolean readLine(Reader reader, StringBuilder line) throws IOException {
+    line.setLength(0);
+    var read = false;
+    int ch;
+    while ((ch = reader.read()) != -1) {
+      read = true;
+      if (ch == '\n') {
+        break;
+      }
+      if (line.length() <= MAX_RECORD_LENGTH) {
+        line.append((char) ch);
+      }
+    }
+
+    var length = line.length();
+    if (length > 0 && length <= MAX_RECORD_LENGTH && line.charAt(length - 1) == '\r') {
+      line.setLength(length - 1);
+    }
+    return read;
+  }
+
+  /**
+   * Writes the result line, the output is flushed every {@value #FLUSH_SIZE} results.
+   *
+   * @return number of written results, including the given one
+   */
+  private long write(CredentialsImportResult result, OutputStream output, long written) throws IOException {
+    output.write(objectMapper.writeValueAsBytes(result));
+    output.write('\n');
+    var total = written + 1;
+    if (total % FLUSH_SIZE == 0) {
+      output.flush();
+    }
+    return total;
+  }
+
+  private static CredentialsImportResult result(long lineNumber, LoginCredentials credentials,
+    CredentialsImportResult.Status status, String message) {
+    return credentials == null
+      ? new CredentialsImportResult(lineNumber, null, null, status, message)
+      : new CredentialsImportResult(lineNumber, credentials.getUserId(), credentials.getUsername(), status, message);
+  }
+}
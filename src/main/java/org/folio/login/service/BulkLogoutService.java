@@ -0,0 +1,116 @@
+package org.folio.login.service;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.folio.login.domain.dto.UserLogoutStatus.FAILED;
+import static org.folio.login.domain.dto.UserLogoutStatus.LOGGED_OUT;
+import static org.folio.login.domain.dto.UserLogoutStatus.NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.login.domain.dto.BulkLogoutResponse;
+import org.folio.login.domain.dto.UserLogoutResult;
+import org.folio.login.integration.kafka.LogoutEventPublisher;
+import org.folio.login.integration.keycloak.KeycloakClient;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Logs many users out on all of their devices, e.g. when a compromised integration user is rotated.
+ *
+ * <p>Users are processed in batches: Keycloak user ids are resolved and sessions are terminated in parallel on the
+ * Keycloak executor, so the number of concurrent Keycloak requests is bounded by the batch and pool sizes. Logout-all
+ * events of a batch are published together once its sessions are terminated.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class BulkLogoutService {
+
+  private static final int LOGOUT_BATCH_SIZE = 50;
+
+  private final AdminTokenService adminTokenService;
+  private final KeycloakUserService keycloakUserService;
+  private final KeycloakClient keycloakClient;
+  private final FolioExecutionContext folioExecutionContext;
+  private final LogoutEventPublisher logoutEventPublisher;
+  @Qualifier("keycloakExecutor")
+  private final Executor keycloakExecutor;
+
+  /**
+   * Terminates all Keycloak sessions of the given users.
+   *
+   * @param userIds - folio user identifiers, duplicates are processed once
+   * @return {@link BulkLogoutResponse} with logout result per user in the request order
+   */
+  public BulkLogoutResponse logoutAll(List<String> userIds) {
+    var uniqueUserIds = List.copyOf(new LinkedHashSet<>(userIds));
+    var tenantId = folioExecutionContext.getTenantId();
+    var results = new ArrayList<UserLogoutResult>(uniqueUserIds.size());
+
+    for (var batch : ListUtils.partition(uniqueUserIds, LOGOUT_BATCH_SIZE)) {
+      // resolved per batch: the cached admin token is renewed before it expires, a long bulk logout outlives it
+      var token = adminTokenService.getAdminToken(null, null);
+      var logouts = batch.stream()
+        .map(userId -> supplyAsync(() -> logoutAll(tenantId, userId, token), keycloakExecutor))
+        .toList();
+      var keycloakUserIds = new LinkedHashMap<String, String>();
+      for (var logout : logouts) {
+        var userLogout = logout.join();
+        results.add(userLogout.result());
+        if (userLogout.keycloakUserId() != null) {
+          keycloakUserIds.put(userLogout.result().getUserId(), userLogout.keycloakUserId());
+        }
+      }
+
+      publishLogoutAllEvents(keycloakUserIds);
+      log.info("Bulk logout progress [tenant: {}, processed: {}/{}]", tenantId, results.size(), uniqueUserIds.size());
+    }
+
+    var loggedOut = (int) results.stream().filter(result -> result.getStatus() == LOGGED_OUT).count();
+    return new BulkLogoutResponse()
+      .totalRecords(results.size())
+      .loggedOut(loggedOut)
+      .failed(results.size() - loggedOut)
+      .results(results);
+  }
+
+  private UserLogout logoutAll(String tenantId, String userId, String token) {
+    var result = new UserLogoutResult().userId(userId);
+    try {
+      var keycloakUserId = keycloakUserService.findKeycloakUserIdByUserId(userId, token);
+      keycloakClient.logoutAll(tenantId, keycloakUserId, token);
+      return new UserLogout(result.status(LOGGED_OUT), keycloakUserId);
+    } catch (NotFoundException e) {
+      return new UserLogout(result.status(NOT_FOUND).message(e.getMessage()), null);
+    } catch (HttpClientErrorException.NotFound e) {
+      keycloakUserService.evictKeycloakUserId(userId);
+      return new UserLogout(result.status(NOT_FOUND).message("Keycloak user is not found"), null);
+    } catch (Exception e) {
+      log.warn("Failed to log out user [userId: {}]", userId, e);
+      return new UserLogout(result.status(FAILED).message(e.getMessage()), null);
+    }
+  }
+
+  /**
+   * Sessions of the batch are already terminated, so a publication failure is logged and not reported per user.
+   */
+  private void publishLogoutAllEvents(Map<String, String> keycloakUserIds) {
+    try {
+      logoutEventPublisher.publishLogoutAllEvents(keycloakUserIds);
+    } catch (Exception e) {
+      log.warn("Failed to publish logout-all events [count: {}]", keycloakUserIds.size(), e);
+    }
+  }
+
+  private record UserLogout(UserLogoutResult result, String keycloakUserId) {}
+}
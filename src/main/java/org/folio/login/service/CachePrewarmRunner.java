@@ -0,0 +1,70 @@
+package org.folio.login.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.configuration.property.CachePrewarmProperties;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads realm configurations of the enabled tenants and the admin token into the caches at startup, so the first
+ * requests after a deployment don't wait for the secure store and the Keycloak master realm login.
+ *
+ * <p>Application runners are completed before the application reports readiness, so the traffic is routed to the
+ * instance after the prewarming is finished or its timeout is passed.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.cache-prewarm.enabled", havingValue = "true")
+public class CachePrewarmRunner implements ApplicationRunner {
+
+  static final String TENANT_TABLE = "auth_password_action";
+
+  private final CachePrewarmProperties cachePrewarmProperties;
+  private final TenantDiscoveryService tenantDiscoveryService;
+  private final RealmConfigurationProvider realmConfigurationProvider;
+  private final AdminTokenService adminTokenService;
+
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    var startTime = System.currentTimeMillis();
+    var tasks = new ArrayList<Callable<Object>>();
+    tasks.add(() -> adminTokenService.getAdminToken(null, null));
+    getTenants().forEach(tenant -> tasks.add(() -> realmConfigurationProvider.getRealmConfiguration(tenant)));
+
+    var executor = Executors.newFixedThreadPool(cachePrewarmProperties.getParallelism(),
+      Thread.ofPlatform().name("cache-prewarm-", 0).daemon().factory());
+    try {
+      var timeout = cachePrewarmProperties.getTimeout();
+      var results = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+      log.info("Caches prewarmed: loaded = {}, total = {}, duration = {} ms",
+        countLoaded(results), tasks.size(), System.currentTimeMillis() - startTime);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<String> getTenants() {
+    try {
+      return tenantDiscoveryService.getTenants(TENANT_TABLE);
+    } catch (Exception e) {
+      log.warn("Failed to discover tenants for caches prewarming", e);
+      return List.of();
+    }
+  }
+
+  private static long countLoaded(List<Future<Object>> results) {
+    return results.stream()
+      .filter(result -> result.state() == Future.State.SUCCESS)
+      .count();
+  }
+}
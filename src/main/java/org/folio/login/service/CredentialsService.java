@@ -3,9 +3,11 @@ package org.folio.login.service;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.login.domain.dto.CredentialsExistence;
+import org.folio.login.domain.dto.CredentialsExistenceCollection;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.dto.UpdateCredentials;
 import org.folio.login.integration.users.UserService;
@@ -63,4 +65,8 @@ public class CredentialsService {
       return new CredentialsExistence(false);
     }
   }
+
+  public CredentialsExistenceCollection checkCredentialsExistence(List<String> userIds) {
+    return new CredentialsExistenceCollection().credentialsExist(keycloakService.checkCredentialExistence(userIds));
+  }
 }
@@ -1,40 +1,179 @@
 package org.folio.login.service;
 
 import java.time.Instant;
-import java.util.Base64;
+import java.util.Arrays;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.login.domain.model.ParsedToken;
 import org.folio.login.exception.TokenParsingException;
 import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.ObjectMapper;
 
+/**
+ * Reads claims from JWT payload without signature verification.
+ *
+ * <p>The payload segment is located by index and decoded into a per-thread buffer, then the JSON is streamed
+ * reading only the required claims, so no intermediate strings or JSON trees are created.</p>
+ */
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class JwtTokenParser {
+
+  private static final String EXPIRATION_CLAIM = "exp";
+  private static final int MAX_REUSED_BUFFER_SIZE = 8 * 1024;
+  private static final int[] BASE64_URL_VALUES = base64UrlValues();
+  private static final ThreadLocal<byte[]> PAYLOAD_BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
+
   private final ObjectMapper objectMapper;
 
   public String parseExpirationDate(String token) {
-    var exp = parseExpiration(token);
+    var exp = readPayload(token, JwtTokenParser::readExpiration);
     return Instant.ofEpochSecond(exp).toString();
   }
 
-  private long parseExpiration(String token) {
+  /**
+   * Decodes the claims shared by the services handling a single request.
+   *
+   * @param token - encoded JWT
+   * @return {@link ParsedToken} with issuer, session id, subject, expiration and type claims
+   * @throws TokenParsingException if token is absent or cannot be decoded
+   */
+  public ParsedToken parse(String token) {
+    var parsedToken = readPayload(token, JwtTokenParser::readClaims);
+    parsedToken.setJwt(token);
+    return parsedToken;
+  }
+
+  private <T> T readPayload(String token, Function<JsonParser, T> payloadReader) {
     if (token == null) {
       throw new TokenParsingException("Failed to find auth token in request.");
     }
 
-    var split = token.split("\\.");
-    if (split.length < 2 || split.length > 3) {
+    var payloadStart = token.indexOf('.') + 1;
+    var payloadEnd = payloadStart > 0 ? token.indexOf('.', payloadStart) : -1;
+    if (payloadStart == 0 || payloadEnd >= 0 && token.indexOf('.', payloadEnd + 1) >= 0) {
       throw new TokenParsingException("Invalid amount of segments in JWT token.");
     }
 
     try {
-      var payload = objectMapper.readTree(new String(Base64.getUrlDecoder().decode(split[1])));
-      return payload.get("exp").asLong();
+      var encodedEnd = payloadEnd >= 0 ? payloadEnd : token.length();
+      var buffer = getBuffer((encodedEnd - payloadStart) * 3 / 4 + 1);
+      var length = decodeBase64Url(token, payloadStart, encodedEnd, buffer);
+      try (var parser = objectMapper.createParser(buffer, 0, length)) {
+        return payloadReader.apply(parser);
+      }
     } catch (Exception e) {
       log.warn("Failed to parse token", e);
       throw new TokenParsingException("Invalid token.");
     }
   }
+
+  private static long readExpiration(JsonParser parser) {
+    requireObject(parser);
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var isExpiration = EXPIRATION_CLAIM.equals(parser.currentName());
+      var valueToken = parser.nextToken();
+      if (isExpiration && valueToken.isNumeric()) {
+        return parser.getLongValue();
+      }
+      parser.skipChildren();
+    }
+
+    throw new IllegalArgumentException("Expiration claim is not found in JWT payload");
+  }
+
+  private static ParsedToken readClaims(JsonParser parser) {
+    requireObject(parser);
+    var parsedToken = new ParsedToken();
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var claim = parser.currentName();
+      var valueToken = parser.nextToken();
+      if (valueToken.isScalarValue()) {
+        readClaim(parsedToken, claim, valueToken, parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return parsedToken;
+  }
+
+  private static void readClaim(ParsedToken parsedToken, String claim, JsonToken valueToken, JsonParser parser) {
+    switch (claim) {
+      case "iss" -> parsedToken.setIssuer(parser.getValueAsString());
+      case "sub" -> parsedToken.setSubject(parser.getValueAsString());
+      case "typ" -> parsedToken.setType(parser.getValueAsString());
+      case "sid" -> parsedToken.setSessionId(parser.getValueAsString());
+      case "session_state" -> {
+        if (parsedToken.getSessionId() == null) {
+          parsedToken.setSessionId(parser.getValueAsString());
+        }
+      }
+      case EXPIRATION_CLAIM -> parsedToken.setExpiration(valueToken.isNumeric() ? parser.getLongValue() : null);
+      default -> {
+        // claim is not used by the module
+      }
+    }
+  }
+
+  private static void requireObject(JsonParser parser) {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("JWT payload is not a JSON object");
+    }
+  }
+
+  /**
+   * Decodes Base64 URL encoded characters of the given string range, trailing padding is ignored.
+   *
+   * @return number of decoded bytes
+   */
+  private static int decodeBase64Url(String value, int start, int end, byte[] target) {
+    var bits = 0;
+    var bitCount = 0;
+    var length = 0;
+    for (var i = start; i < end && value.charAt(i) != '='; i++) {
+      var character = value.charAt(i);
+      var decoded = character < BASE64_URL_VALUES.length ? BASE64_URL_VALUES[character] : -1;
+      if (decoded < 0) {
+        throw new IllegalArgumentException("Illegal Base64 URL character: " + character);
+      }
+
+      bits = bits << 6 | decoded;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        target[length++] = (byte) (bits >> bitCount);
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Virtual threads are not reused, so a per-thread buffer would be allocated for each request and never reused.
+   */
+  private static byte[] getBuffer(int size) {
+    if (size > MAX_REUSED_BUFFER_SIZE || Thread.currentThread().isVirtual()) {
+      return new byte[size];
+    }
+
+    var buffer = PAYLOAD_BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new byte[MAX_REUSED_BUFFER_SIZE];
+      PAYLOAD_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+  private static int[] base64UrlValues() {
+    var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    var values = new int[128];
+    Arrays.fill(values, -1);
+    for (var i = 0; i < alphabet.length(); i++) {
+      values[alphabet.charAt(i)] = i;
+    }
+    return values;
+  }
 }
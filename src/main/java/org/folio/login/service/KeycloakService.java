@@ -1,7 +1,12 @@
 package org.folio.login.service;
 
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static org.folio.login.util.JwtUtils.extractTenant;
+import static org.folio.login.service.LoginStageMetrics.KEYCLOAK_LOGOUT;
+import static org.folio.login.service.LoginStageMetrics.KEYCLOAK_TOKEN;
+import static org.folio.login.service.LoginStageMetrics.REALM_CONFIGURATION;
+import static org.folio.login.util.FutureUtils.join;
 import static org.folio.login.util.TokenRequestHelper.prepareCodeRequestBody;
 import static org.folio.login.util.TokenRequestHelper.prepareRefreshRequestBody;
 import static org.keycloak.OAuth2Constants.CLIENT_ID;
@@ -10,16 +15,31 @@ import static org.keycloak.OAuth2Constants.REFRESH_TOKEN;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.ws.rs.BadRequestException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.folio.common.utils.OkapiHeaders;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.configuration.property.LogoutProperties;
 import org.folio.login.domain.dto.CredentialsExistence;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.dto.PasswordResetAction;
 import org.folio.login.domain.dto.UpdateCredentials;
 import org.folio.login.domain.model.KeycloakAuthentication;
+import org.folio.login.domain.model.KeycloakRealmConfiguration;
+import org.folio.login.domain.model.ParsedToken;
 import org.folio.login.domain.model.PasswordCredential;
 import org.folio.login.domain.model.UserCredentials;
 import org.folio.login.exception.RequestValidationException;
@@ -29,7 +49,9 @@ import org.folio.login.integration.kafka.LogoutEventPublisher;
 import org.folio.login.integration.keycloak.KeycloakClient;
 import org.folio.login.util.TokenRequestHelper;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.exception.NotFoundException;
 import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -42,65 +64,90 @@ import org.springframework.web.client.RestClientException;
 public class KeycloakService {
 
   private static final String GRANT_TYPE_PASSWORD = "password";
+  private static final int CREDENTIALS_LOOKUP_BATCH_SIZE = 50;
   private final AdminTokenService adminTokenService;
   private final KeycloakUserService keycloakUserService;
   private final KeycloakClient keycloakClient;
   private final FolioExecutionContext folioExecutionContext;
   private final RealmConfigurationProvider realmConfigurationProvider;
   private final LogoutEventPublisher logoutEventPublisher;
+  private final LoginStageMetrics stageMetrics;
+  @Qualifier("keycloakExecutor")
+  private final Executor keycloakExecutor;
+  private final LogoutProperties logoutProperties;
+  private final LogoutEventOutboxProperties outboxProperties;
+  @Qualifier("logoutExecutor")
+  private final Executor logoutExecutor;
+  @Qualifier("logoutEventExecutor")
+  private final Executor logoutEventExecutor;
 
   public KeycloakAuthentication getUserToken(LoginCredentials credentials, String userAgent, String forwardedFor) {
-    var realmConfiguration = realmConfigurationProvider.getRealmConfiguration();
+    var realmConfiguration = getRealmConfiguration();
     var requestData = TokenRequestHelper.preparePasswordRequestBody(credentials, realmConfiguration);
     return getToken(userAgent, forwardedFor, requestData);
   }
 
-  public void logout(String refreshToken) {
-    var realm = realmConfigurationProvider.getRealmConfiguration();
-    var form = new LinkedMultiValueMap<String, String>();
-    form.add(REFRESH_TOKEN, refreshToken);
-    form.add(CLIENT_ID, realm.getClientId());
-    form.add(CLIENT_SECRET, realm.getClientSecret());
+  /**
+   * Terminates the Keycloak session of the refresh token. The logout event is published while the session is
+   * terminated, the method returns as soon as the session is terminated.
+   *
+   * @param refreshToken - parsed refresh token
+   * @throws ServiceException if the session is not terminated within the logout timeout
+   */
+  public void logout(ParsedToken refreshToken) {
+    var deadline = System.nanoTime() + logoutProperties.getTimeout().toNanos();
+    var sessionTermination = runAsync(() -> terminateSession(refreshToken), logoutExecutor);
 
-    logoutEventPublisher.publishLogoutEvent(refreshToken);
-    var tenantId = folioExecutionContext.getTenantId();
-    keycloakClient.logout(tenantId, form);
+    publishEvent(() -> logoutEventPublisher.publishLogoutEvent(refreshToken));
+    awaitLogout(sessionTermination, deadline);
   }
 
+  /**
+   * Terminates all Keycloak sessions of the current user. Once the Keycloak user is resolved, the logout-all event
+   * is published while the sessions are terminated, the method returns as soon as the sessions are terminated.
+   *
+   * @throws BadRequestException if user id is not found in the request context
+   * @throws ServiceException if the sessions are not terminated within the logout timeout
+   */
   public void logoutAll() {
     var userId = folioExecutionContext.getUserId();
     if (userId == null) {
       throw new BadRequestException("User id is not found");
     }
     log.debug("Logging out all user sessions [userId: {}]", userId);
+    var deadline = System.nanoTime() + logoutProperties.getTimeout().toNanos();
     var tenantId = folioExecutionContext.getTenantId();
     var token = adminTokenService.getAdminToken(null, null);
-    var keycloakUserId = keycloakUserService.findKeycloakUserIdByUserId(userId.toString(), token);
+    var keycloakUserIdLookup =
+      supplyAsync(() -> keycloakUserService.findKeycloakUserIdByUserId(userId.toString(), token), logoutExecutor);
+    var keycloakUserId = awaitLogout(keycloakUserIdLookup, deadline);
 
-    logoutEventPublisher.publishLogoutAllEvent(keycloakUserId);
-    keycloakClient.logoutAll(tenantId, keycloakUserId, token);
+    var sessionsTermination = runAsync(() -> stageMetrics.recordRun(KEYCLOAK_LOGOUT,
+      () -> keycloakClient.logoutAll(tenantId, keycloakUserId, token)), logoutExecutor);
+    publishEvent(() -> logoutEventPublisher.publishLogoutAllEvent(keycloakUserId));
+    awaitLogout(sessionsTermination, deadline);
   }
 
   /**
    * Refreshes the access token using the refresh token. The original realm is extracted from the refresh token. The
    * `x-okapi-tenant` header is overridden with the tenant from the refresh token.
    *
-   * @param refreshToken the refresh token
+   * @param refreshToken the parsed refresh token
    * @return the refreshed access token
    */
-  public KeycloakAuthentication refreshToken(String refreshToken) {
+  public KeycloakAuthentication refreshToken(ParsedToken refreshToken) {
     var headers = new HashMap<>(folioExecutionContext.getAllHeaders());
-    headers.put(OkapiHeaders.TENANT, List.of(extractTenant(refreshToken)));
+    headers.put(OkapiHeaders.TENANT, List.of(refreshToken.getTenant()));
     try (var ctx = new FolioExecutionContextSetter(folioExecutionContext.getFolioModuleMetadata(), headers)) {
-      var realmConfiguration = realmConfigurationProvider.getRealmConfiguration();
-      var requestData = prepareRefreshRequestBody(refreshToken, realmConfiguration);
+      var realmConfiguration = getRealmConfiguration();
+      var requestData = prepareRefreshRequestBody(refreshToken.getJwt(), realmConfiguration);
       return getToken(null, null, requestData);
     }
   }
 
   public KeycloakAuthentication getTokenAuthCodeFlow(String code, String redirectUri, String userAgent,
     String forwardedFor) {
-    var realmConfiguration = realmConfigurationProvider.getRealmConfiguration();
+    var realmConfiguration = getRealmConfiguration();
     var requestData = prepareCodeRequestBody(code, redirectUri, realmConfiguration);
     return getToken(userAgent, forwardedFor, requestData);
   }
@@ -130,6 +177,7 @@ public class KeycloakService {
       var newPassword = PasswordCredential.of(false, GRANT_TYPE_PASSWORD, loginCredentials.getPassword());
       keycloakClient.updateCredentials(tenantId, keycloakUserId, newPassword, token);
     } catch (RestClientException cause) {
+      evictKeycloakUserIdIfNotFound(userId, cause);
       throw new ServiceException("Failed to create auth credentials for a username: " + userName, cause);
     }
   }
@@ -148,7 +196,9 @@ public class KeycloakService {
         throw new EntityNotFoundException("No credentials for userId " + userId + " found");
       }
       keycloakClient.deleteUsersCredentials(tenantId, keycloakUserId, userCredentials.get(0), token);
+      keycloakUserService.evictKeycloakUserId(userId);
     } catch (RestClientException cause) {
+      evictKeycloakUserIdIfNotFound(userId, cause);
       throw new ServiceException("Failed to delete credentials for a user: " + userId, cause);
     }
   }
@@ -161,14 +211,54 @@ public class KeycloakService {
       var userCredentials = keycloakClient.getUserCredentials(tenantId, keycloakUserId, token);
       return new CredentialsExistence().credentialsExist(!userCredentials.isEmpty());
     } catch (RestClientException cause) {
+      evictKeycloakUserIdIfNotFound(userId, cause);
       throw new ServiceException("Failed to get credentials for a user: " + userId, cause);
     }
   }
 
+  /**
+   * Checks credentials existence of many users with one admin token. Keycloak user ids are resolved through the cache
+   * and credentials are loaded in parallel batches on the Keycloak executor.
+   *
+   * @param userIds - folio user identifiers
+   * @return {@link Map} with folio user id as a key and credentials existence as a value, users not found in Keycloak
+   *   have no credentials, even if their cached Keycloak user ids are stale
+   * @throws ServiceException if credentials of any user cannot be loaded
+   */
+  public Map<String, Boolean> checkCredentialExistence(Collection<String> userIds) {
+    var tenantId = folioExecutionContext.getTenantId();
+    var token = adminTokenService.getAdminToken(null, null);
+    var result = new LinkedHashMap<String, Boolean>();
+    for (var batch : ListUtils.partition(List.copyOf(new LinkedHashSet<>(userIds)), CREDENTIALS_LOOKUP_BATCH_SIZE)) {
+      var lookups = batch.stream()
+        .map(userId -> supplyAsync(() -> hasCredentials(tenantId, userId, token, true), keycloakExecutor))
+        .toList();
+      for (var i = 0; i < batch.size(); i++) {
+        result.put(batch.get(i), join(lookups.get(i)));
+      }
+    }
+    return result;
+  }
+
   public void resetPassword(PasswordResetAction passwordResetAction, String userId) {
     changePassword(userId, passwordResetAction.getNewPassword(), "Failed to reset password for a user: " + userId);
   }
 
+  private boolean hasCredentials(String tenantId, String userId, String token, boolean retryStaleUserId) {
+    try {
+      var keycloakUserId = keycloakUserService.findKeycloakUserIdByUserId(userId, token);
+      return !keycloakClient.getUserCredentials(tenantId, keycloakUserId, token).isEmpty();
+    } catch (NotFoundException e) {
+      return false;
+    } catch (HttpClientErrorException.NotFound e) {
+      // cached Keycloak user id is stale, e.g. the user is re-created, so it is resolved once again
+      keycloakUserService.evictKeycloakUserId(userId);
+      return retryStaleUserId && hasCredentials(tenantId, userId, token, false);
+    } catch (RestClientException cause) {
+      throw new ServiceException("Failed to get credentials for a user: " + userId, cause);
+    }
+  }
+
   private void changePassword(String userId, String newPassword, String message) {
     var tenantId = folioExecutionContext.getTenantId();
     try {
@@ -177,15 +267,81 @@ public class KeycloakService {
       var kcPasswordReset = PasswordCredential.of(false, GRANT_TYPE_PASSWORD, newPassword);
       keycloakClient.updateCredentials(tenantId, keycloakUserId, kcPasswordReset, token);
     } catch (RestClientException cause) {
+      evictKeycloakUserIdIfNotFound(userId, cause);
       throw new ServiceException(message, cause);
     }
   }
 
+  /**
+   * Evicts cached Keycloak user id if Keycloak responded that the user is not found, so the stale mapping is resolved
+   * again on the next request.
+   */
+  private void evictKeycloakUserIdIfNotFound(String userId, RestClientException cause) {
+    if (isNotEmpty(userId) && cause instanceof HttpClientErrorException.NotFound) {
+      keycloakUserService.evictKeycloakUserId(userId);
+    }
+  }
+
+  private void terminateSession(ParsedToken refreshToken) {
+    var realm = getRealmConfiguration();
+    var form = new LinkedMultiValueMap<String, String>();
+    form.add(REFRESH_TOKEN, refreshToken.getJwt());
+    form.add(CLIENT_ID, realm.getClientId());
+    form.add(CLIENT_SECRET, realm.getClientSecret());
+
+    var tenantId = folioExecutionContext.getTenantId();
+    stageMetrics.recordRun(KEYCLOAK_LOGOUT, () -> keycloakClient.logout(tenantId, form));
+  }
+
+  /**
+   * Publishes the logout event. With the outbox enabled, the event is saved on the request thread, so it is stored
+   * once the request is completed. Otherwise, it is sent to Kafka in background: the session is terminated regardless,
+   * so failed and rejected sendings are only logged.
+   */
+  private void publishEvent(Runnable eventPublication) {
+    if (outboxProperties.isEnabled()) {
+      eventPublication.run();
+      return;
+    }
+
+    try {
+      runAsync(eventPublication, logoutEventExecutor).exceptionally(error -> {
+        log.warn("Failed to publish logout event", error);
+        return null;
+      });
+    } catch (RejectedExecutionException e) {
+      log.warn("Logout event is dropped, too many events are waiting to be sent to Kafka", e);
+    }
+  }
+
+  /**
+   * Waits for the logout step until the deadline of the whole logout operation is passed.
+   */
+  private <T> T awaitLogout(CompletableFuture<T> logoutStep, long deadline) {
+    var timeout = logoutProperties.getTimeout();
+    try {
+      return logoutStep.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServiceException("Interrupted while terminating Keycloak session", e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause
+        : new ServiceException("Failed to terminate Keycloak session", e.getCause());
+    } catch (TimeoutException e) {
+      throw new ServiceException("Keycloak session is not terminated in " + timeout, e);
+    }
+  }
+
+  private KeycloakRealmConfiguration getRealmConfiguration() {
+    return stageMetrics.record(REALM_CONFIGURATION, () -> realmConfigurationProvider.getRealmConfiguration());
+  }
+
   private KeycloakAuthentication getToken(String userAgent, String forwardedFor,
     MultiValueMap<String, String> payload) {
     var tenantId = folioExecutionContext.getTenantId();
     try {
-      return keycloakClient.callTokenEndpoint(tenantId, payload, userAgent, forwardedFor);
+      return stageMetrics.record(KEYCLOAK_TOKEN,
+        () -> keycloakClient.callTokenEndpoint(tenantId, payload, userAgent, forwardedFor));
     } catch (HttpClientErrorException.Unauthorized e) {
       throw new UnauthorizedException("Unauthorized error", e);
     } catch (RestClientException cause) {
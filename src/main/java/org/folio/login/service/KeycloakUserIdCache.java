@@ -0,0 +1,119 @@
+package org.folio.login.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.configuration.property.KeycloakUserIdCacheProperties;
+import org.folio.login.util.SizeEvictionWarningListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant bounded cache of the immutable folio user id to Keycloak user id mapping, and of the reverse one.
+ *
+ * <p>Concurrent cache misses for the same user are coalesced, so only one Keycloak user search is performed.</p>
+ */
+@Log4j2
+@Component
+public class KeycloakUserIdCache {
+
+  static final String CACHE_NAME = "keycloak-user-id";
+  static final String REVERSE_CACHE_NAME = "folio-user-id";
+  /**
+   * Marker for Keycloak users without folio user id attribute, so they are not looked up repeatedly.
+   */
+  static final String NON_FOLIO_USER = "";
+
+  private final Duration ttl;
+  private final int maxSize;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Cache<String, String>> tenantCaches = new ConcurrentHashMap<>();
+  private final Map<String, Cache<String, String>> tenantReverseCaches = new ConcurrentHashMap<>();
+
+  public KeycloakUserIdCache(KeycloakUserIdCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+    this.ttl = cacheProperties.getTtl();
+    this.maxSize = cacheProperties.getMaxSize();
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Returns Keycloak user id for the given folio user id, loading it if it is not cached yet.
+   *
+   * @param tenant - tenant identifier
+   * @param userId - folio user identifier
+   * @param loader - function to resolve Keycloak user id by folio user id
+   * @return Keycloak user identifier
+   */
+  public String get(String tenant, String userId, Function<String, String> loader) {
+    var keycloakUserId = getTenantCache(tenant).get(userId, loader);
+    if (keycloakUserId != null) {
+      getTenantReverseCache(tenant).put(keycloakUserId, userId);
+    }
+    return keycloakUserId;
+  }
+
+  /**
+   * Returns folio user ids for the given Keycloak user ids, loading the missing ones in bulk.
+   *
+   * <p>The loader must return {@link #NON_FOLIO_USER} for the Keycloak users without folio user id, such users are
+   * excluded from the result.</p>
+   *
+   * @param tenant - tenant identifier
+   * @param keycloakUserIds - Keycloak user identifiers
+   * @param bulkLoader - function to resolve folio user ids by Keycloak user ids
+   * @return {@link Map} with Keycloak user id as a key and folio user id as a value
+   */
+  public Map<String, String> getFolioUserIds(String tenant, Set<String> keycloakUserIds,
+    Function<Set<? extends String>, Map<String, String>> bulkLoader) {
+    var result = new HashMap<>(getTenantReverseCache(tenant).getAll(keycloakUserIds, bulkLoader));
+    result.values().removeIf(NON_FOLIO_USER::equals);
+    return result;
+  }
+
+  /**
+   * Removes cached Keycloak user id for the given folio user id.
+   *
+   * @param tenant - tenant identifier
+   * @param userId - folio user identifier
+   */
+  public void invalidate(String tenant, String userId) {
+    log.debug("Invalidating cached Keycloak user id [tenant: {}, userId: {}]", tenant, userId);
+    var keycloakUserId = getTenantCache(tenant).asMap().remove(userId);
+    if (keycloakUserId != null) {
+      getTenantReverseCache(tenant).invalidate(keycloakUserId);
+    }
+  }
+
+  /**
+   * Removes all cached values for all tenants.
+   */
+  public void invalidateAll() {
+    tenantCaches.values().forEach(Cache::invalidateAll);
+    tenantReverseCaches.values().forEach(Cache::invalidateAll);
+  }
+
+  private Cache<String, String> getTenantCache(String tenant) {
+    return tenantCaches.computeIfAbsent(tenant, t -> createTenantCache(CACHE_NAME, t));
+  }
+
+  private Cache<String, String> getTenantReverseCache(String tenant) {
+    return tenantReverseCaches.computeIfAbsent(tenant, t -> createTenantCache(REVERSE_CACHE_NAME, t));
+  }
+
+  private Cache<String, String> createTenantCache(String cacheName, String tenant) {
+    Cache<String, String> cache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(ttl)
+      .removalListener(new SizeEvictionWarningListener<>(cacheName + "/" + tenant, maxSize))
+      .recordStats()
+      .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName, "tenant", tenant);
+  }
+}
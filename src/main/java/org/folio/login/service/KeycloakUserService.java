@@ -1,27 +1,69 @@
 package org.folio.login.service;
 
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.login.domain.model.KeycloakUser.USER_ID_ATTR;
+import static org.folio.login.service.KeycloakUserIdCache.NON_FOLIO_USER;
+import static org.folio.login.util.FutureUtils.join;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.folio.login.domain.model.KeycloakUser;
 import org.folio.login.integration.keycloak.KeycloakUserClient;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class KeycloakUserService {
 
+  private static final int LOOKUP_BATCH_SIZE = 50;
+
   private final KeycloakUserClient client;
   private final FolioExecutionContext context;
+  private final KeycloakUserIdCache keycloakUserIdCache;
+  @Qualifier("keycloakExecutor")
+  private final Executor keycloakExecutor;
 
   public String findKeycloakUserIdByUserId(String userId, String adminToken) {
-    return findKeycloakUserWithUserIdAttr(userId, adminToken).getId();
+    return keycloakUserIdCache.get(context.getTenantId(), userId,
+      id -> findKeycloakUserWithUserIdAttr(id, adminToken).getId());
+  }
+
+  /**
+   * Evicts cached Keycloak user id for the given folio user id in the current tenant.
+   *
+   * @param userId - folio user identifier
+   */
+  public void evictKeycloakUserId(String userId) {
+    keycloakUserIdCache.invalidate(context.getTenantId(), userId);
+  }
+
+  /**
+   * Resolves folio user ids for the given Keycloak user ids. Missing values are loaded in parallel batches, Keycloak
+   * users without folio user id are excluded from the result.
+   *
+   * @param keycloakUserIds - Keycloak user identifiers
+   * @param adminToken - admin bearer token
+   * @return {@link Map} with Keycloak user id as a key and folio user id as a value
+   */
+  public Map<String, String> findFolioUserIds(Set<String> keycloakUserIds, String adminToken) {
+    var tenant = context.getTenantId();
+    return keycloakUserIdCache.getFolioUserIds(tenant, keycloakUserIds,
+      ids -> loadFolioUserIds(tenant, ids, adminToken));
   }
 
   public KeycloakUser findKeycloakUserByUsername(String username, String adminToken) {
@@ -43,4 +85,30 @@ public class KeycloakUserService {
     }
     return found.get(0);
   }
+
+  private Map<String, String> loadFolioUserIds(String tenant, Set<? extends String> keycloakUserIds,
+    String adminToken) {
+    var result = new HashMap<String, String>();
+    for (var batch : ListUtils.partition(List.copyOf(keycloakUserIds), LOOKUP_BATCH_SIZE)) {
+      var lookups = batch.stream()
+        .collect(toMap(identity(), id -> supplyAsync(() -> loadFolioUserId(tenant, id, adminToken),
+          keycloakExecutor)));
+      lookups.forEach((keycloakUserId, lookup) -> result.put(keycloakUserId, join(lookup)));
+    }
+
+    log.debug("Folio user ids resolved [tenant: {}, count: {}]", tenant, result.size());
+    return result;
+  }
+
+  private String loadFolioUserId(String tenant, String keycloakUserId, String adminToken) {
+    try {
+      var user = client.getUser(adminToken, tenant, keycloakUserId);
+      var attributes = user.getAttributes();
+      var folioUserIds = attributes == null ? null : attributes.get(USER_ID_ATTR);
+      return isEmpty(folioUserIds) ? NON_FOLIO_USER : folioUserIds.getFirst();
+    } catch (HttpClientErrorException.NotFound e) {
+      log.debug("Keycloak user is not found: {}", keycloakUserId);
+      return NON_FOLIO_USER;
+    }
+  }
 }
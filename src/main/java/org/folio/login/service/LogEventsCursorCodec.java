@@ -0,0 +1,52 @@
+package org.folio.login.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.login.domain.model.LogEventsCursor;
+import org.folio.login.exception.RequestValidationException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Converts {@link LogEventsCursor} to an opaque URL-safe string and back.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class LogEventsCursorCodec {
+
+  private static final String CURSOR_PARAMETER = "cursor";
+
+  private final ObjectMapper objectMapper;
+
+  public String encode(LogEventsCursor cursor) {
+    var json = objectMapper.writeValueAsBytes(cursor);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+  }
+
+  /**
+   * Decodes cursor value.
+   *
+   * @param value - encoded cursor value, nullable
+   * @return decoded {@link LogEventsCursor}, empty one if value is blank
+   * @throws RequestValidationException if cursor value is invalid
+   */
+  public LogEventsCursor decode(String value) {
+    if (StringUtils.isBlank(value)) {
+      return new LogEventsCursor();
+    }
+
+    try {
+      var json = new String(Base64.getUrlDecoder().decode(value), UTF_8);
+      return objectMapper.readValue(json, LogEventsCursor.class);
+    } catch (IllegalArgumentException | JacksonException e) {
+      log.debug("Failed to decode log events cursor: {}", value, e);
+      throw new RequestValidationException("Invalid cursor value", CURSOR_PARAMETER, value);
+    }
+  }
+}
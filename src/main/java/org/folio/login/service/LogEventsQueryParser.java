@@ -0,0 +1,167 @@
+package org.folio.login.service;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.folio.login.domain.dto.LogEventType;
+import org.folio.login.domain.model.LogEventsFilter;
+import org.folio.login.exception.RequestValidationException;
+import org.springframework.stereotype.Component;
+import org.z3950.zing.cql.CQLAndNode;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLOrNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+/**
+ * Parses CQL query of the log events API into {@link LogEventsFilter}.
+ *
+ * <p>Supported are conditions combined with 'and': {@code userId==<uuid>}, {@code eventType==<type>} (several types
+ * can be combined with 'or') and {@code timestamp} compared with ISO date or date-time using {@code =}, {@code >},
+ * {@code >=}, {@code <} and {@code <=}. Date-time values without offset are treated as UTC.</p>
+ *
+ * <p>A {@code sortby} clause is accepted and ignored, events are always returned newest first.</p>
+ */
+@Log4j2
+@Component
+public class LogEventsQueryParser {
+
+  private static final String QUERY_PARAMETER = "query";
+  private static final String ALL_RECORDS_INDEX = "cql.allRecords";
+  private static final String USER_ID_INDEX = "userId";
+  private static final String EVENT_TYPE_INDEX = "eventType";
+  private static final String TIMESTAMP_INDEX = "timestamp";
+  private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  /**
+   * Parses CQL query.
+   *
+   * @param query - CQL query, nullable
+   * @return parsed {@link LogEventsFilter}, empty one if query is blank
+   * @throws RequestValidationException if query cannot be parsed or is not supported
+   */
+  public LogEventsFilter parse(String query) {
+    var filter = new LogEventsFilter();
+    if (StringUtils.isBlank(query)) {
+      return filter;
+    }
+
+    try {
+      applyNode(filter, new CQLParser().parse(query), query);
+      return filter;
+    } catch (CQLParseException | IOException e) {
+      log.debug("Failed to parse log events query: {}", query, e);
+      throw new RequestValidationException("Invalid CQL query", QUERY_PARAMETER, query);
+    }
+  }
+
+  private static void applyNode(LogEventsFilter filter, CQLNode node, String query) {
+    switch (node) {
+      case CQLAndNode andNode -> {
+        applyNode(filter, andNode.getLeftOperand(), query);
+        applyNode(filter, andNode.getRightOperand(), query);
+      }
+      case CQLOrNode orNode -> filter.restrictEventTypes(collectEventTypes(orNode, query));
+      case CQLTermNode termNode -> applyTerm(filter, termNode, query);
+      case CQLSortNode sortNode -> {
+        log.debug("Sort clause is ignored, events are sorted by time descending: {}", query);
+        applyNode(filter, sortNode.getSubtree(), query);
+      }
+      default -> throw unsupportedQuery(query);
+    }
+  }
+
+  private static void applyTerm(LogEventsFilter filter, CQLTermNode termNode, String query) {
+    switch (termNode.getIndex()) {
+      case ALL_RECORDS_INDEX -> log.debug("All records are requested");
+      case USER_ID_INDEX -> filter.restrictUserId(getEqualityTerm(termNode, query));
+      case EVENT_TYPE_INDEX -> filter.restrictEventTypes(EnumSet.of(parseEventType(termNode, query)));
+      case TIMESTAMP_INDEX -> applyTimestamp(filter, termNode, query);
+      default -> throw unsupportedQuery(query);
+    }
+  }
+
+  private static Set<LogEventType> collectEventTypes(CQLNode node, String query) {
+    return switch (node) {
+      case CQLOrNode orNode -> {
+        var eventTypes = collectEventTypes(orNode.getLeftOperand(), query);
+        eventTypes.addAll(collectEventTypes(orNode.getRightOperand(), query));
+        yield eventTypes;
+      }
+      case CQLTermNode termNode when EVENT_TYPE_INDEX.equals(termNode.getIndex()) ->
+        EnumSet.of(parseEventType(termNode, query));
+      default -> throw unsupportedQuery(query);
+    };
+  }
+
+  private static LogEventType parseEventType(CQLTermNode termNode, String query) {
+    try {
+      return LogEventType.fromValue(getEqualityTerm(termNode, query));
+    } catch (IllegalArgumentException e) {
+      throw new RequestValidationException("Unknown event type", QUERY_PARAMETER, termNode.getTerm());
+    }
+  }
+
+  /**
+   * Applies timestamp condition, the compared value is converted to the range of event times it covers: a day for a
+   * date and a millisecond for a date-time.
+   */
+  private static void applyTimestamp(LogEventsFilter filter, CQLTermNode termNode, String query) {
+    var rangeStart = parseTimestamp(termNode.getTerm(), query);
+    var rangeEnd = isDate(termNode.getTerm()) ? rangeStart + ONE_DAY_MILLIS - 1 : rangeStart;
+    switch (termNode.getRelation().getBase()) {
+      case "=", "==" -> filter.restrictTimeRange(rangeStart, rangeEnd);
+      case ">=" -> filter.restrictTimeRange(rangeStart, null);
+      case ">" -> filter.restrictTimeRange(rangeEnd + 1, null);
+      case "<=" -> filter.restrictTimeRange(null, rangeEnd);
+      case "<" -> filter.restrictTimeRange(null, rangeStart - 1);
+      default -> throw unsupportedQuery(query);
+    }
+  }
+
+  private static long parseTimestamp(String value, String query) {
+    try {
+      if (isDate(value)) {
+        return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+      }
+      return hasOffset(value)
+        ? Instant.parse(value).toEpochMilli()
+        : LocalDateTime.parse(value).toInstant(ZoneOffset.UTC).toEpochMilli();
+    } catch (DateTimeException e) {
+      throw new RequestValidationException("Invalid timestamp value", QUERY_PARAMETER, query);
+    }
+  }
+
+  private static boolean isDate(String value) {
+    return !StringUtils.contains(value, 'T');
+  }
+
+  private static boolean hasOffset(String value) {
+    var time = StringUtils.substringAfter(value, 'T');
+    return Strings.CI.endsWith(time, "Z") || StringUtils.containsAny(time, '+', '-');
+  }
+
+  private static String getEqualityTerm(CQLTermNode termNode, String query) {
+    var relation = termNode.getRelation().getBase();
+    if (!"=".equals(relation) && !"==".equals(relation)) {
+      throw unsupportedQuery(query);
+    }
+    return termNode.getTerm();
+  }
+
+  private static RequestValidationException unsupportedQuery(String query) {
+    return new RequestValidationException(
+      "Unsupported query, allowed are 'userId', 'eventType' and 'timestamp' conditions combined with 'and'",
+      QUERY_PARAMETER, query);
+  }
+}
@@ -10,27 +10,35 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.function.IntFunction;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
+import org.folio.login.configuration.property.LogEventsStoreProperties;
 import org.folio.login.domain.dto.LogEvent;
 import org.folio.login.domain.dto.LogEventCollection;
 import org.folio.login.domain.dto.LogEventType;
+import org.folio.login.domain.model.LogEventsCursor;
+import org.folio.login.domain.model.LogEventsCursor.EventPosition;
+import org.folio.login.domain.model.LogEventsCursor.EventSource;
+import org.folio.login.domain.model.LogEventsFilter;
+import org.folio.login.integration.keycloak.KeycloakClient;
+import org.folio.login.util.MergingIterator;
+import org.folio.login.util.PagedIterator;
 import org.folio.spring.FolioExecutionContext;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.resource.RealmResource;
+import org.folio.spring.exception.NotFoundException;
 import org.keycloak.representations.idm.AdminEventRepresentation;
 import org.keycloak.representations.idm.EventRepresentation;
-import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -43,106 +51,243 @@ public class LogEventsService {
     "UPDATE_PASSWORD", PASSWORD_CHANGE,
     "RESET_PASSWORD", PASSWORD_RESET
   );
-  private static final ArrayList<String> SUPPORTED_USER_EVENTS =
-    new ArrayList<>(SUPPORTED_USER_EVENT_MAPPINGS.keySet());
-  private static final String USER_ID_ATTR = "user_id";
   private static final String USER_RESOURCE_TYPE = "USER";
   private static final String ADMIN_EVENT_OPERATION_TYPE = "ACTION";
+  private static final String RESET_PASSWORD_RESOURCE_PATH = "users/%s/reset-password*";
   private static final Pattern UUID_PATTERN =
     Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
   private static final int BATCH_SIZE = 100;
+  private static final int MIN_FETCH_SIZE = 50;
+  private static final Comparator<SourcedLogEvent> TIME_DESC =
+    Comparator.comparingLong(SourcedLogEvent::time).reversed();
 
-  private final Keycloak keycloak;
+  private final KeycloakClient keycloakClient;
   private final FolioExecutionContext folioExecutionContext;
+  private final AdminTokenService adminTokenService;
+  private final KeycloakUserService keycloakUserService;
+  private final LogEventsCursorCodec cursorCodec;
+  private final LogEventsQueryParser queryParser;
+  private final LoginEventStoreService loginEventStoreService;
+  private final LogEventsStoreProperties logEventsStoreProperties;
 
-  @SuppressWarnings("unused")
-  public LogEventCollection getUserEvents(Integer start, Integer length, String query) {
+  public LogEventCollection getUserEvents(Integer start, Integer length, String query, String cursor) {
+    var filter = queryParser.parse(query);
+    var position = cursorCodec.decode(cursor);
+    var offset = StringUtils.isBlank(cursor) ? start : 0;
+    if (filter.matchesNothing()) {
+      return toLogEventCollection(Collections.emptyList(), null);
+    }
+
+    return logEventsStoreProperties.isEnabled()
+      ? getStoredEvents(filter, position, offset, length)
+      : getKeycloakEvents(filter, position, offset, length);
+  }
+
+  /**
+   * Loads supported Keycloak events of the given source for the current tenant page by page, newest first.
+   *
+   * @param source - Keycloak event source
+   * @param filter - log events filter, user identifier is not supported
+   * @param pageSize - number of Keycloak events loaded at once
+   * @return lazily loading {@link Iterator}, each element holds supported log events of one loaded Keycloak page
+   */
+  Iterator<List<SourcedLogEvent>> loadKeycloakEventPages(EventSource source, LogEventsFilter filter, int pageSize) {
     var tenant = folioExecutionContext.getTenantId();
-    var realmResource = keycloak.realm(tenant);
+    var eventsQuery = new EventsQuery(tenant, filter, null, pageSize);
+    return source == EventSource.ADMIN
+      ? loadAdminEvents(eventsQuery, null, List::of)
+      : loadUserEvents(eventsQuery, null, List::of);
+  }
 
-    // load, merge and sort data from two sources before applying offset and limit
-    var maxRecords = start + length;
-    var userEvents = loadPaginatedData(offset -> loadUserEvents(realmResource, offset, BATCH_SIZE), maxRecords);
-    var adminEvents = loadPaginatedData(offset -> loadAdminEvents(realmResource, offset, BATCH_SIZE), maxRecords);
+  private LogEventCollection getKeycloakEvents(LogEventsFilter filter, LogEventsCursor position, int offset,
+    int length) {
+    var keycloakUserId = findKeycloakUserId(filter.getUserId());
+    if (filter.getUserId() != null && keycloakUserId == null) {
+      return toLogEventCollection(Collections.emptyList(), null);
+    }
 
-    // currently there is no API for bulk search of users by ids in Keycloak, have to load all of them
-    var usersTotal = realmResource.users().count();
-    var users = loadPaginatedData(offset -> realmResource.users().list(offset, BATCH_SIZE), usersTotal);
-    var usersMap = users.stream().collect(Collectors.toMap(UserRepresentation::getId, Function.identity()));
+    var tenant = folioExecutionContext.getTenantId();
+    // both sources are sorted by time, so they are merged lazily and loaded only as far as the requested page,
+    // small pages are still fetched in bigger chunks as non-folio user events are filtered out after loading
+    var pageSize = Math.clamp((long) offset + length, MIN_FETCH_SIZE, BATCH_SIZE);
+    var eventsQuery = new EventsQuery(tenant, filter, keycloakUserId, pageSize);
+    var mergedEvents = new MergingIterator<>(List.of(
+      loadUserEvents(eventsQuery, position.getUser(), Function.identity()),
+      loadAdminEvents(eventsQuery, position.getAdmin(), Function.identity())), TIME_DESC);
+    var nextPosition = position.copy();
+    var events = takePage(mergedEvents, offset, length, nextPosition);
+    return toLogEventCollection(events, mergedEvents.hasNext() ? nextPosition : null);
+  }
 
-    var userLogEvents = mapSupportedUserEvents(userEvents, tenant, usersMap);
-    var adminLogEvents = mapSupportedAdminEvents(adminEvents, tenant, usersMap);
-    var mergedEvents = mergeAndSortWithOffset(userLogEvents, adminLogEvents, start, length);
+  private LogEventCollection getStoredEvents(LogEventsFilter filter, LogEventsCursor position, int offset,
+    int length) {
+    var events = loginEventStoreService.findEvents(filter, position.getStore(), offset, length);
+    var nextPosition = position.copy();
+    events.forEach(event -> updatePosition(nextPosition,
+      new SourcedLogEvent(EventSource.STORE, event.getId(), event.getTimestamp().getTime(), event)));
+    return toLogEventCollection(events.getContent(), events.hasNext() ? nextPosition : null);
+  }
 
+  private LogEventCollection toLogEventCollection(List<LogEvent> events, LogEventsCursor nextPosition) {
     return new LogEventCollection()
-      .loggingEvent(mergedEvents)
-      .totalRecords(mergedEvents.size());
+      .loggingEvent(events)
+      .totalRecords(events.size())
+      .nextCursor(nextPosition != null ? cursorCodec.encode(nextPosition) : null);
+  }
+
+  private String findKeycloakUserId(String userId) {
+    if (userId == null) {
+      return null;
+    }
+
+    try {
+      var adminToken = adminTokenService.getAdminToken(null, null);
+      return keycloakUserService.findKeycloakUserIdByUserId(userId, adminToken);
+    } catch (NotFoundException e) {
+      log.debug("Keycloak user is not found, no log events to return: userId = {}", userId);
+      return null;
+    }
+  }
+
+  private Map<String, String> resolveFolioUserIds(Stream<String> keycloakUserIdStream) {
+    var keycloakUserIds = keycloakUserIdStream
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    if (keycloakUserIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    var adminToken = adminTokenService.getAdminToken(null, null);
+    return keycloakUserService.findFolioUserIds(keycloakUserIds, adminToken);
   }
 
-  private static List<LogEvent> mergeAndSortWithOffset(List<LogEvent> list1, List<LogEvent> list2, Integer startIndex,
-    Integer length) {
-    var toIndex = startIndex + length;
-    var mergedList = Stream.concat(list1.stream(), list2.stream())
-      .sorted(Comparator.comparing(LogEvent::getTimestamp, Comparator.reverseOrder()))
-      .limit(toIndex)
-      .collect(Collectors.toList());
-    return startIndex >= mergedList.size() ? Collections.emptyList() :
-      mergedList.subList(startIndex, Math.min(toIndex, mergedList.size()));
+  /**
+   * Skips offset events and collects the page of events, the position of each consumed event is stored in the cursor.
+   */
+  private static List<LogEvent> takePage(Iterator<SourcedLogEvent> events, int offset, int length,
+    LogEventsCursor cursor) {
+    var page = new ArrayList<LogEvent>(length);
+    var consumed = 0;
+    while (consumed < offset + length && events.hasNext()) {
+      var event = events.next();
+      updatePosition(cursor, event);
+      if (consumed++ >= offset) {
+        page.add(event.event());
+      }
+    }
+    return page;
   }
 
-  private static List<EventRepresentation> loadUserEvents(RealmResource realm, int offset, int maxResults) {
-    return realm.getEvents(SUPPORTED_USER_EVENTS, null, null, null, null, null, offset, maxResults);
+  private static void updatePosition(LogEventsCursor cursor, SourcedLogEvent event) {
+    var position = cursor.getPosition(event.source());
+    if (position == null || position.getTime() != event.time()) {
+      position = EventPosition.of(event.time(), new LinkedHashSet<>());
+      cursor.setPosition(event.source(), position);
+    }
+    position.getIds().add(event.id());
   }
 
-  private static List<AdminEventRepresentation> loadAdminEvents(RealmResource realm, int offset, int maxResults) {
-    return realm.getAdminEvents(
-      List.of(ADMIN_EVENT_OPERATION_TYPE), null, null, null, null, null, null, null, offset, maxResults);
+  /**
+   * Loads supported user events, a loaded page of events is converted to iterated elements with the page collector.
+   */
+  private <T> Iterator<T> loadUserEvents(EventsQuery query, EventPosition position,
+    Function<List<SourcedLogEvent>, List<T>> pageCollector) {
+    var eventTypes = SUPPORTED_USER_EVENT_MAPPINGS.entrySet().stream()
+      .filter(mapping -> query.filter().includes(mapping.getValue()))
+      .map(Map.Entry::getKey)
+      .toList();
+    if (eventTypes.isEmpty()) {
+      return Collections.emptyIterator();
+    }
+
+    var dateFrom = toDate(query.filter().getDateFrom());
+    var dateTo = toDate(getUpperBound(query.filter(), position));
+    return new PagedIterator<>(first -> keycloakClient.getEvents(query.tenant(), eventTypes, query.keycloakUserId(),
+      dateFrom, dateTo, first, query.pageSize(), adminTokenService.getAdminToken(null, null)), query.pageSize(),
+      page -> pageCollector.apply(mapSupportedUserEvents(page, query.tenant(), position)));
   }
 
-  private static <T> List<T> loadPaginatedData(IntFunction<List<T>> offsetLoadFunction, Integer limit) {
-    int currBatchSize;
-    var offset = 0;
-    var allRecords = new ArrayList<T>();
+  /**
+   * Loads supported admin events, a loaded page of events is converted to iterated elements with the page collector.
+   */
+  private <T> Iterator<T> loadAdminEvents(EventsQuery query, EventPosition position,
+    Function<List<SourcedLogEvent>, List<T>> pageCollector) {
+    if (!query.filter().includes(PASSWORD_RESET)) {
+      return Collections.emptyIterator();
+    }
 
-    do {
-      var result = offsetLoadFunction.apply(offset);
-      currBatchSize = result.size();
-      offset += currBatchSize;
-      allRecords.addAll(result);
-    } while (currBatchSize > 0 && allRecords.size() < limit);
+    var keycloakUserId = Objects.requireNonNullElse(query.keycloakUserId(), "*");
+    var resourcePath = String.format(RESET_PASSWORD_RESOURCE_PATH, keycloakUserId);
+    var dateFrom = toDate(query.filter().getDateFrom());
+    var dateTo = toDate(getUpperBound(query.filter(), position));
+    return new PagedIterator<>(first -> keycloakClient.getAdminEvents(query.tenant(),
+      List.of(ADMIN_EVENT_OPERATION_TYPE), resourcePath, dateFrom, dateTo, first, query.pageSize(),
+      adminTokenService.getAdminToken(null, null)), query.pageSize(),
+      page -> pageCollector.apply(mapSupportedAdminEvents(page, query.tenant(), position)));
+  }
+
+  /**
+   * Returns the upper bound of event time, the returned events are included to skip the ones with the same time.
+   */
+  private static Long getUpperBound(LogEventsFilter filter, EventPosition position) {
+    return ObjectUtils.min(filter.getDateTo(), position != null ? position.getTime() : null);
+  }
 
-    return allRecords;
+  /**
+   * Keycloak accepts event time in epoch milliseconds as an inclusive bound.
+   */
+  private static String toDate(Long epochMillis) {
+    return epochMillis != null ? String.valueOf(epochMillis) : null;
   }
 
-  private static List<LogEvent> mapSupportedUserEvents(List<EventRepresentation> userEvents, String tenant,
-    Map<String, UserRepresentation> usersMap) {
-    return toLogEvents(userEvents, userEvent -> createLogEvent(userEvent, tenant, usersMap));
+  private List<SourcedLogEvent> mapSupportedUserEvents(List<EventRepresentation> userEvents, String tenant,
+    EventPosition position) {
+    var newEvents = toStream(userEvents)
+      .filter(event -> position == null || !position.isReturned(event.getTime(), event.getId()))
+      .toList();
+
+    // only users referenced by the loaded events are resolved
+    var folioUserIds = resolveFolioUserIds(newEvents.stream()
+      .filter(event -> resolveUserEventType(event.getType()) != null)
+      .map(EventRepresentation::getUserId));
+    return toSourcedEvents(newEvents, event -> SourcedLogEvent.of(EventSource.USER, event.getId(), event.getTime(),
+      createLogEvent(event, tenant, folioUserIds)));
   }
 
-  private static List<LogEvent> mapSupportedAdminEvents(List<AdminEventRepresentation> adminEvents, String tenant,
-    Map<String, UserRepresentation> usersMap) {
-    return toLogEvents(adminEvents, adminEvent -> createLogEvent(adminEvent, tenant, usersMap));
+  private List<SourcedLogEvent> mapSupportedAdminEvents(List<AdminEventRepresentation> adminEvents, String tenant,
+    EventPosition position) {
+    var newEvents = toStream(adminEvents)
+      .filter(event -> position == null || !position.isReturned(event.getTime(), event.getId()))
+      .toList();
+
+    var folioUserIds = resolveFolioUserIds(newEvents.stream()
+      .filter(event -> resolveAdminEventType(event) != null)
+      .map(event -> extractFirstUuid(event.getResourcePath())));
+    return toSourcedEvents(newEvents, event -> SourcedLogEvent.of(EventSource.ADMIN, event.getId(), event.getTime(),
+      createLogEvent(event, tenant, folioUserIds)));
   }
 
-  private static <T> List<LogEvent> toLogEvents(List<T> keycloakEvents, Function<T, LogEvent> mapper) {
-    return toStream(keycloakEvents)
+  private static <T> List<SourcedLogEvent> toSourcedEvents(List<T> keycloakEvents,
+    Function<T, SourcedLogEvent> mapper) {
+    return keycloakEvents.stream()
       .map(mapper)
       .filter(Objects::nonNull)
       .toList();
   }
 
   private static LogEvent createLogEvent(EventRepresentation userEvent, String tenant,
-    Map<String, UserRepresentation> usersMap) {
+    Map<String, String> folioUserIds) {
     var eventType = resolveUserEventType(userEvent.getType());
     if (eventType == null) {
       return null;
     }
 
-    var eventUserId = userEvent.getUserId();
-    return isFolioUser(eventUserId, usersMap)
+    var folioUserId = userEvent.getUserId() != null ? folioUserIds.get(userEvent.getUserId()) : null;
+    return folioUserId != null
       ? new LogEvent()
         .eventType(eventType)
-        .userId(getFolioUserId(eventUserId, usersMap))
+        .userId(folioUserId)
         .ip(userEvent.getIpAddress())
         .tenant(tenant)
         .timestamp(new Date(userEvent.getTime()))
@@ -150,34 +295,25 @@ public class LogEventsService {
   }
 
   private static LogEvent createLogEvent(AdminEventRepresentation adminEvent, String tenant,
-    Map<String, UserRepresentation> usersMap) {
+    Map<String, String> folioUserIds) {
     var eventType = resolveAdminEventType(adminEvent);
     if (eventType == null) {
       return null;
     }
 
     var userId = extractFirstUuid(adminEvent.getResourcePath());
+    var folioUserId = userId != null ? folioUserIds.get(userId) : null;
 
-    return userId != null && isFolioUser(userId, usersMap)
+    return folioUserId != null
       ? new LogEvent()
         .eventType(eventType)
-        .userId(getFolioUserId(userId, usersMap))
+        .userId(folioUserId)
         .ip(adminEvent.getAuthDetails().getIpAddress())
         .tenant(tenant)
         .timestamp(new Date(adminEvent.getTime()))
       : null;
   }
 
-  private static boolean isFolioUser(String userId, Map<String, UserRepresentation> usersMap) {
-    var user = usersMap.get(userId);
-    return user != null && MapUtils.emptyIfNull(user.getAttributes()).containsKey(USER_ID_ATTR);
-  }
-
-  private static String getFolioUserId(String userId, Map<String, UserRepresentation> usersMap) {
-    var user = usersMap.get(userId);
-    return user.getAttributes().get(USER_ID_ATTR).getFirst();
-  }
-
   private static String extractFirstUuid(String resourcePath) {
     var matcher = LogEventsService.UUID_PATTERN.matcher(resourcePath);
     return matcher.find() ? matcher.group(0) : null;
@@ -195,4 +331,19 @@ public class LogEventsService {
   private static LogEventType resolveUserEventType(String eventType) {
     return SUPPORTED_USER_EVENT_MAPPINGS.get(eventType);
   }
+
+  /**
+   * Keycloak event query parameters, shared by the loaded pages.
+   */
+  private record EventsQuery(String tenant, LogEventsFilter filter, String keycloakUserId, int pageSize) {}
+
+  /**
+   * Mapped log event with its source, identifier and time, required to track the cursor position.
+   */
+  record SourcedLogEvent(EventSource source, String id, long time, LogEvent event) {
+
+    static SourcedLogEvent of(EventSource source, String id, long time, LogEvent event) {
+      return event != null ? new SourcedLogEvent(source, id, time, event) : null;
+    }
+  }
 }
@@ -0,0 +1,151 @@
+package org.folio.login.service;
+
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.login.domain.dto.LogEvent;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.model.LogEventsCursor.EventPosition;
+import org.folio.login.domain.model.LogEventsFilter;
+import org.folio.login.domain.repository.LoginEventRepository;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.login.mapper.LoginEventMapper;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.data.OffsetRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and writes log events, stored in the module database.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginEventStoreService {
+
+  private static final Sort EVENT_TIME_DESC = Sort.by(DESC, "eventTime", "id");
+
+  private final LoginEventRepository loginEventRepository;
+  private final LoginEventMapper loginEventMapper;
+  private final FolioExecutionContext folioExecutionContext;
+  private final LoginEventWriteBuffer loginEventWriteBuffer;
+
+  /**
+   * Accepts log event to be saved, the event is written to the database asynchronously.
+   *
+   * @param logEvent - log event to save
+   * @return identifier of the saved log event
+   * @throws RequestValidationException if event or user identifier is not a UUID
+   */
+  public UUID saveEvent(LogEvent logEvent) {
+    var eventId = logEvent.getId() != null ? parseUuid(logEvent.getId(), "id") : UUID.randomUUID();
+    parseUuid(logEvent.getUserId(), "userId");
+
+    var entity = loginEventMapper.toEntity(logEvent);
+    entity.setId(eventId);
+    entity.setEventTime(Objects.requireNonNullElseGet(logEvent.getTimestamp(), Date::new));
+    loginEventWriteBuffer.save(folioExecutionContext.getTenantId(), entity);
+    return eventId;
+  }
+
+  /**
+   * Accepts log event to be deleted, the event is deleted from the database asynchronously.
+   *
+   * @param eventId - identifier of log event to delete
+   * @throws RequestValidationException if event identifier is not a UUID
+   */
+  public void deleteEvent(String eventId) {
+    loginEventWriteBuffer.delete(folioExecutionContext.getTenantId(), parseUuid(eventId, "eventId"));
+  }
+
+  /**
+   * Finds log events, matching the filter, sorted by event time in descending order.
+   *
+   * @param filter - log events filter
+   * @param position - position of the last returned event, nullable
+   * @param offset - number of events to skip after the position
+   * @param limit - maximum number of events to return
+   * @return {@link Slice} with found log events
+   */
+  @Transactional(readOnly = true)
+  public Slice<LogEvent> findEvents(LogEventsFilter filter, EventPosition position, int offset, int limit) {
+    var tenant = folioExecutionContext.getTenantId();
+    var specification = matchesFilter(filter).and(isAfter(position));
+    var pageable = OffsetRequest.of(offset, limit, EVENT_TIME_DESC);
+    // slice is used instead of page to avoid counting all matching events
+    return loginEventRepository.findBy(specification, query -> query.slice(pageable))
+      .map(entity -> loginEventMapper.toDto(entity, tenant));
+  }
+
+  private static Specification<LoginEventEntity> matchesFilter(LogEventsFilter filter) {
+    return (root, query, cb) -> {
+      var predicates = new ArrayList<Predicate>();
+      if (filter.getUserId() != null) {
+        var userId = toUuids(List.of(filter.getUserId()));
+        predicates.add(userId.isEmpty() ? cb.disjunction() : cb.equal(root.get("userId"), userId.getFirst()));
+      }
+      if (filter.getEventTypes() != null) {
+        predicates.add(root.get("eventType").in(filter.getEventTypes()));
+      }
+      if (filter.getDateFrom() != null) {
+        predicates.add(cb.greaterThanOrEqualTo(root.get("eventTime"), new Date(filter.getDateFrom())));
+      }
+      if (filter.getDateTo() != null) {
+        predicates.add(cb.lessThanOrEqualTo(root.get("eventTime"), new Date(filter.getDateTo())));
+      }
+      return cb.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+
+  /**
+   * Matches the events, which are not returned before the given position.
+   */
+  private static Specification<LoginEventEntity> isAfter(EventPosition position) {
+    return (root, query, cb) -> position == null ? cb.conjunction() : cb.or(
+      cb.lessThan(root.get("eventTime"), new Date(position.getTime())),
+      cb.and(cb.equal(root.get("eventTime"), new Date(position.getTime())), isNotIn(root, cb, position.getIds())));
+  }
+
+  private static Predicate isNotIn(Root<LoginEventEntity> root, CriteriaBuilder cb, Collection<String> ids) {
+    var uuids = toUuids(ids);
+    return uuids.isEmpty() ? cb.conjunction() : cb.not(root.get("id").in(uuids));
+  }
+
+  private static List<UUID> toUuids(Collection<String> values) {
+    return values.stream()
+      .map(LoginEventStoreService::toUuid)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  private static UUID parseUuid(String value, String key) {
+    var uuid = toUuid(value);
+    if (uuid == null) {
+      throw new RequestValidationException("Invalid UUID value", key, value);
+    }
+    return uuid;
+  }
+
+  private static UUID toUuid(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.folio.login.service;
+
+import static org.folio.login.service.LoginEventSyncService.SYNC_STATE_TABLE;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.common.utils.OkapiHeaders;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically synchronizes Keycloak events into the module database for all enabled tenants.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.log-events-store.enabled", havingValue = "true")
+public class LoginEventSyncJob {
+
+  private final LoginEventSyncService loginEventSyncService;
+  private final TenantDiscoveryService tenantDiscoveryService;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  @Scheduled(fixedDelayString = "${application.log-events-store.sync-interval:60s}")
+  public void synchronizeTenants() {
+    tenantDiscoveryService.getTenants(SYNC_STATE_TABLE).forEach(this::synchronizeTenant);
+  }
+
+  private void synchronizeTenant(String tenant) {
+    Map<String, Collection<String>> headers = Map.of(OkapiHeaders.TENANT, List.of(tenant));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      loginEventSyncService.synchronize();
+    } catch (Exception e) {
+      log.warn("Failed to synchronize Keycloak events: tenant = {}", tenant, e);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package org.folio.login.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.configuration.property.LogEventsStoreProperties;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.entity.LoginEventSyncStateEntity;
+import org.folio.login.domain.model.LogEventsCursor.EventSource;
+import org.folio.login.domain.model.LogEventsFilter;
+import org.folio.login.domain.repository.LoginEventJdbcRepository;
+import org.folio.login.domain.repository.LoginEventSyncStateRepository;
+import org.folio.login.mapper.LoginEventMapper;
+import org.folio.login.service.LogEventsService.SourcedLogEvent;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Incrementally copies Keycloak events into the module database.
+ *
+ * <p>Only events not older than the per-source high-water mark are loaded. Events with the same time as the mark are
+ * loaded again and skipped on insert, because stored event identifiers are derived from Keycloak ones.</p>
+ *
+ * <p>A run loads at most {@code syncMaxPages} Keycloak pages per source. Keycloak returns the newest events first, so
+ * if the limit is reached, the older events are loaded by the next runs and the mark is moved only when they are
+ * done. A run takes a lease on the tenant in a short transaction, so only one module instance synchronizes it at a
+ * time, while Keycloak events are loaded outside of a transaction. The events and the mark of each source are
+ * committed together, which releases the lease of the source.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class LoginEventSyncService {
+
+  static final String SYNC_STATE_TABLE = "login_event_sync_state";
+  private static final String SYNC_LOCK_PREFIX = "login_event_sync:";
+  private static final List<EventSource> KEYCLOAK_SOURCES = List.of(EventSource.USER, EventSource.ADMIN);
+
+  private final LogEventsService logEventsService;
+  private final LoginEventMapper loginEventMapper;
+  private final LoginEventJdbcRepository loginEventJdbcRepository;
+  private final LoginEventSyncStateRepository syncStateRepository;
+  private final LogEventsStoreProperties logEventsStoreProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Synchronizes Keycloak events of the current tenant, the run is skipped if the tenant is being synchronized by
+   * another module instance.
+   */
+  public void synchronize() {
+    var tenant = folioExecutionContext.getTenantId();
+    var syncTime = System.currentTimeMillis();
+    var states = transactionTemplate.execute(status -> acquireLease(tenant, syncTime));
+    if (states == null || states.isEmpty()) {
+      log.debug("Keycloak events are being synchronized by another instance: tenant = {}", tenant);
+      return;
+    }
+
+    var pending = new ArrayList<>(states);
+    try {
+      for (var state : states) {
+        synchronize(tenant, state, syncTime);
+        pending.remove(state);
+      }
+    } finally {
+      releaseLease(pending);
+    }
+  }
+
+  /**
+   * Takes the lease of all sources if none of them is held by another run, the advisory lock serializes the check.
+   */
+  private List<LoginEventSyncStateEntity> acquireLease(String tenant, long syncTime) {
+    if (!syncStateRepository.tryLock(SYNC_LOCK_PREFIX + tenant)) {
+      return List.of();
+    }
+
+    var states = KEYCLOAK_SOURCES.stream()
+      .map(source -> syncStateRepository.findById(source.name())
+        .orElseGet(() -> LoginEventSyncStateEntity.of(source.name(), 0L)))
+      .toList();
+    if (states.stream().anyMatch(state -> state.getLeasedUntil() != null && state.getLeasedUntil() > syncTime)) {
+      return List.of();
+    }
+
+    var leasedUntil = syncTime + logEventsStoreProperties.getSyncLease().toMillis();
+    states.forEach(state -> state.setLeasedUntil(leasedUntil));
+    return syncStateRepository.saveAll(states);
+  }
+
+  private void releaseLease(List<LoginEventSyncStateEntity> states) {
+    if (states.isEmpty()) {
+      return;
+    }
+
+    try {
+      states.forEach(state -> state.setLeasedUntil(null));
+      transactionTemplate.executeWithoutResult(status -> syncStateRepository.saveAll(states));
+    } catch (Exception e) {
+      log.warn("Failed to release Keycloak events synchronization lease, it expires in {}",
+        logEventsStoreProperties.getSyncLease(), e);
+    }
+  }
+
+  private void synchronize(String tenant, LoginEventSyncStateEntity state, long syncTime) {
+    var source = EventSource.valueOf(state.getSource());
+    // upper bound keeps the Keycloak result stable while it is loaded page by page
+    var upperBound = Objects.requireNonNullElse(state.getBackfillTo(), syncTime);
+    var filter = new LogEventsFilter();
+    filter.restrictTimeRange(state.getLastEventTime(), upperBound);
+    var batchSize = logEventsStoreProperties.getSyncBatchSize();
+    var pages = logEventsService.loadKeycloakEventPages(source, filter, batchSize);
+    var result = loadEvents(source, pages, logEventsStoreProperties.getSyncMaxPages());
+    var backfillLastEventTime = Objects.requireNonNullElse(state.getBackfillLastEventTime(), 0L);
+    var lastEventTime = Math.max(result.lastEventTime(), backfillLastEventTime);
+
+    state.setLeasedUntil(null);
+    if (result.limitReached()) {
+      // events of the same millisecond can't be split between runs by time, so the bound is moved at least by one
+      var backfillTo = Math.min(result.firstEventTime(), upperBound - 1);
+      state.setBackfillTo(backfillTo);
+      state.setBackfillLastEventTime(lastEventTime);
+      log.info("Keycloak events synchronization is continued by the next run: tenant = {}, source = {}, until = {}",
+        tenant, source, backfillTo);
+    } else if (lastEventTime > state.getLastEventTime() || state.getBackfillTo() != null) {
+      state.setLastEventTime(Math.max(lastEventTime, state.getLastEventTime()));
+      state.setBackfillTo(null);
+      state.setBackfillLastEventTime(null);
+    }
+
+    var events = result.events();
+    transactionTemplate.executeWithoutResult(status -> {
+      for (var i = 0; i < events.size(); i += batchSize) {
+        loginEventJdbcRepository.insertAll(tenant, events.subList(i, Math.min(i + batchSize, events.size())));
+      }
+      syncStateRepository.save(state);
+    });
+    log.debug("Keycloak events synchronized: tenant = {}, source = {}, events = {}, pages = {}",
+      tenant, source, events.size(), result.loadedPages());
+  }
+
+  private SyncResult loadEvents(EventSource source, Iterator<List<SourcedLogEvent>> pages, int maxPages) {
+    var events = new ArrayList<LoginEventEntity>();
+    var firstEventTime = Long.MAX_VALUE;
+    var lastEventTime = 0L;
+    var loadedPages = 0;
+    while (loadedPages < maxPages && pages.hasNext()) {
+      for (var event : pages.next()) {
+        firstEventTime = Math.min(firstEventTime, event.time());
+        lastEventTime = Math.max(lastEventTime, event.time());
+        events.add(toEntity(source, event));
+      }
+      loadedPages++;
+    }
+
+    return new SyncResult(events, firstEventTime, lastEventTime, loadedPages, loadedPages == maxPages);
+  }
+
+  private LoginEventEntity toEntity(EventSource source, SourcedLogEvent event) {
+    var entity = loginEventMapper.toEntity(event.event());
+    var sourceKey = source.name() + ":" + event.id();
+    entity.setId(UUID.nameUUIDFromBytes(sourceKey.getBytes(StandardCharsets.UTF_8)));
+    return entity;
+  }
+
+  /**
+   * Loaded events with their time range, the number of loaded Keycloak pages and whether loading was stopped by the
+   * per-run limit.
+   */
+  private record SyncResult(List<LoginEventEntity> events, long firstEventTime, long lastEventTime, int loadedPages,
+    boolean limitReached) {}
+}
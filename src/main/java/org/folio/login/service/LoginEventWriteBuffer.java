@@ -0,0 +1,202 @@
+package org.folio.login.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.login.configuration.property.LogEventsStoreProperties;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.repository.LoginEventJdbcRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded write-behind buffer for saved and deleted log events.
+ *
+ * <p>Buffered writes are flushed periodically or as soon as a batch is collected, grouped by tenant into JDBC batch
+ * inserts and single-statement deletes. The last buffered write of an event wins: deletes are applied before inserts,
+ * so an event deleted and saved again is replaced, while an event saved and deleted again is not written. If the
+ * buffer is full, the caller flushes it, slowing down the producers instead of dropping writes. A failed batch is
+ * written again row by row, so that a single invalid record doesn't discard the others, records that still cannot be
+ * written are logged and counted as dropped.</p>
+ *
+ * <p>If the log events store is disabled, no flush thread is started and writes are flushed by the caller.</p>
+ */
+@Log4j2
+@Component
+public class LoginEventWriteBuffer {
+
+  static final String DROPPED_WRITES = "login.events.write.dropped";
+
+  private final LoginEventJdbcRepository loginEventJdbcRepository;
+  private final int batchSize;
+  private final BlockingQueue<PendingWrite> pendingWrites;
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final Counter droppedInserts;
+  private final Counter droppedDeletes;
+  private final ScheduledExecutorService executor;
+
+  public LoginEventWriteBuffer(LoginEventJdbcRepository loginEventJdbcRepository,
+    LogEventsStoreProperties logEventsStoreProperties, MeterRegistry meterRegistry) {
+    this.loginEventJdbcRepository = loginEventJdbcRepository;
+    this.batchSize = logEventsStoreProperties.getWriteBatchSize();
+    this.pendingWrites = new LinkedBlockingQueue<>(logEventsStoreProperties.getWriteBufferCapacity());
+    this.droppedInserts = droppedWritesCounter(meterRegistry, "insert");
+    this.droppedDeletes = droppedWritesCounter(meterRegistry, "delete");
+    this.executor = logEventsStoreProperties.isEnabled() ? startFlushExecutor(logEventsStoreProperties) : null;
+  }
+
+  /**
+   * Buffers log event to be inserted.
+   *
+   * @param tenant - tenant identifier
+   * @param event - log event to insert
+   */
+  public void save(String tenant, LoginEventEntity event) {
+    enqueue(new PendingWrite(tenant, event, null));
+  }
+
+  /**
+   * Buffers log event to be deleted.
+   *
+   * @param tenant - tenant identifier
+   * @param eventId - identifier of log event to delete
+   */
+  public void delete(String tenant, UUID eventId) {
+    enqueue(new PendingWrite(tenant, null, eventId));
+  }
+
+  /**
+   * Writes all buffered log events to the database.
+   */
+  public void flush() {
+    flushLock.lock();
+    try {
+      var writes = new ArrayList<PendingWrite>();
+      pendingWrites.drainTo(writes);
+      groupByTenant(writes).forEach(this::write);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    flush();
+  }
+
+  private void enqueue(PendingWrite write) {
+    while (!pendingWrites.offer(write)) {
+      flush();
+    }
+
+    if (executor == null) {
+      flush();
+      return;
+    }
+
+    if (pendingWrites.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        flushRequested.set(false);
+        flush();
+      });
+    }
+  }
+
+  private void write(String tenant, List<PendingWrite> writes) {
+    var lastWrites = new LinkedHashMap<UUID, PendingWrite>();
+    var deletedIds = new LinkedHashSet<UUID>();
+    for (var write : writes) {
+      lastWrites.put(write.id(), write);
+      if (write.deletedId() != null) {
+        deletedIds.add(write.deletedId());
+      }
+    }
+
+    var savedEvents = lastWrites.values().stream().map(PendingWrite::event).filter(Objects::nonNull).toList();
+    ListUtils.partition(List.copyOf(deletedIds), batchSize).forEach(batch -> deleteAll(tenant, batch));
+    ListUtils.partition(savedEvents, batchSize).forEach(batch -> insertAll(tenant, batch));
+    log.debug("Log events written: tenant = {}, saved = {}, deleted = {}",
+      tenant, savedEvents.size(), deletedIds.size());
+  }
+
+  private void insertAll(String tenant, List<LoginEventEntity> events) {
+    try {
+      loginEventJdbcRepository.insertAll(tenant, events);
+    } catch (Exception e) {
+      if (events.size() == 1) {
+        droppedInserts.increment();
+        log.warn("Failed to insert log event, it is dropped: tenant = {}, id = {}",
+          tenant, events.getFirst().getId(), e);
+        return;
+      }
+
+      log.warn("Failed to insert log events batch, inserting one by one: tenant = {}, events = {}",
+        tenant, events.size(), e);
+      events.forEach(event -> insertAll(tenant, List.of(event)));
+    }
+  }
+
+  private void deleteAll(String tenant, List<UUID> ids) {
+    try {
+      loginEventJdbcRepository.deleteAll(tenant, ids);
+    } catch (Exception e) {
+      if (ids.size() == 1) {
+        droppedDeletes.increment();
+        log.warn("Failed to delete log event, deletion is dropped: tenant = {}, id = {}", tenant, ids.getFirst(), e);
+        return;
+      }
+
+      log.warn("Failed to delete log events batch, deleting one by one: tenant = {}, events = {}",
+        tenant, ids.size(), e);
+      ids.forEach(id -> deleteAll(tenant, List.of(id)));
+    }
+  }
+
+  private ScheduledExecutorService startFlushExecutor(LogEventsStoreProperties logEventsStoreProperties) {
+    var flushExecutor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("login-event-writer").daemon().factory());
+    var flushInterval = logEventsStoreProperties.getWriteFlushInterval().toNanos();
+    flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, NANOSECONDS);
+    return flushExecutor;
+  }
+
+  private static Counter droppedWritesCounter(MeterRegistry meterRegistry, String operation) {
+    return Counter.builder(DROPPED_WRITES)
+      .description("Number of buffered log event writes dropped after a database failure")
+      .tag("operation", operation)
+      .register(meterRegistry);
+  }
+
+  private static Map<String, List<PendingWrite>> groupByTenant(List<PendingWrite> writes) {
+    var writesByTenant = new LinkedHashMap<String, List<PendingWrite>>();
+    writes.forEach(write -> writesByTenant.computeIfAbsent(write.tenant(), t -> new ArrayList<>()).add(write));
+    return writesByTenant;
+  }
+
+  private record PendingWrite(String tenant, LoginEventEntity event, UUID deletedId) {
+
+    UUID id() {
+      return event != null ? event.getId() : deletedId;
+    }
+  }
+}
@@ -1,15 +1,18 @@
 package org.folio.login.service;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.login.service.LoginStageMetrics.TOKEN_PARSING;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.login.domain.dto.LoginCredentials;
 import org.folio.login.domain.model.KeycloakAuthentication;
+import org.folio.login.domain.model.ParsedToken;
 import org.folio.login.domain.model.Token;
 import org.folio.login.domain.model.TokenContainer;
 import org.folio.login.exception.TokenLogoutException;
 import org.folio.login.exception.TokenRefreshException;
+import org.folio.spring.FolioExecutionContext;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,9 +24,15 @@ public class LoginService {
     "Authorization server unable to process token logout request";
   private static final String TOKEN_REFRESH_UNPROCESSABLE =
     "Authorization server unable to process token refresh request";
+  private static final String LOGOUT_OPERATION = "logout";
+  private static final String REFRESH_OPERATION = "refresh";
 
   private final KeycloakService keycloakService;
   private final JwtTokenParser tokenParser;
+  private final TokenRefreshCoalescer tokenRefreshCoalescer;
+  private final RefreshTokenValidator refreshTokenValidator;
+  private final LoginStageMetrics stageMetrics;
+  private final FolioExecutionContext folioExecutionContext;
 
   /**
    * Performs login operation using Keycloak OpenID Token Endpoint.
@@ -52,7 +61,9 @@ public class LoginService {
     }
 
     try {
-      keycloakService.logout(refreshToken);
+      var parsedToken = stageMetrics.record(TOKEN_PARSING, () -> tokenParser.parse(refreshToken));
+      refreshTokenValidator.validate(parsedToken, LOGOUT_OPERATION, folioExecutionContext.getTenantId());
+      keycloakService.logout(parsedToken);
     } catch (Exception e) {
       throw new TokenLogoutException(TOKEN_LOGOUT_UNPROCESSABLE, e);
     }
@@ -86,7 +97,7 @@ public class LoginService {
   }
 
   /**
-   * Get a new refresh and access token.
+   * Get a new refresh and access token. Concurrent requests with the same refresh token share one Keycloak call.
    *
    * @param refreshToken refresh token
    * @return {@link TokenContainer} object with access and refresh tokens populated with additional information
@@ -94,14 +105,25 @@ public class LoginService {
    */
   public TokenContainer refreshToken(String refreshToken) {
     try {
-      var keycloakAuthentication = keycloakService.refreshToken(refreshToken);
+      var keycloakAuthentication = tokenRefreshCoalescer.refresh(refreshToken,
+        () -> keycloakService.refreshToken(parseRefreshToken(refreshToken)));
       return buildTokenContainer(keycloakAuthentication);
     } catch (Exception e) {
       throw new TokenRefreshException(TOKEN_REFRESH_UNPROCESSABLE, e);
     }
   }
 
+  private ParsedToken parseRefreshToken(String refreshToken) {
+    var parsedToken = stageMetrics.record(TOKEN_PARSING, () -> tokenParser.parse(refreshToken));
+    refreshTokenValidator.validate(parsedToken, REFRESH_OPERATION);
+    return parsedToken;
+  }
+
   private TokenContainer buildTokenContainer(KeycloakAuthentication keycloakAuthentication) {
+    return stageMetrics.record(TOKEN_PARSING, () -> createTokenContainer(keycloakAuthentication));
+  }
+
+  private TokenContainer createTokenContainer(KeycloakAuthentication keycloakAuthentication) {
     var accessToken = Token.builder().jwt(keycloakAuthentication.getAccessToken())
       .expirationDate(tokenParser.parseExpirationDate(keycloakAuthentication.getAccessToken()))
       .expiresIn(keycloakAuthentication.getExpiresIn())
@@ -0,0 +1,80 @@
+package org.folio.login.service;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records durations of the login pipeline stages as {@value #TIMER_NAME} timers tagged with the stage, tenant and
+ * outcome, and collects them for the {@code Server-Timing} header if it is enabled for the current request.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginStageMetrics {
+
+  public static final String TIMER_NAME = "login.stage";
+  public static final String REALM_CONFIGURATION = "realm-configuration";
+  public static final String KEYCLOAK_TOKEN = "keycloak-token";
+  public static final String KEYCLOAK_LOGOUT = "keycloak-logout";
+  public static final String TOKEN_PARSING = "token-parsing";
+  public static final String COOKIES = "cookies";
+
+  private static final String UNKNOWN_TENANT = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Executes the stage action and records its duration.
+   *
+   * @param stage - stage name
+   * @param action - stage action
+   * @return action result
+   */
+  public <T> T record(String stage, Supplier<T> action) {
+    var start = System.nanoTime();
+    var outcome = "error";
+    try {
+      var result = action.get();
+      outcome = "success";
+      return result;
+    } finally {
+      stop(stage, start, outcome);
+    }
+  }
+
+  /**
+   * Executes the stage action without result and records its duration.
+   *
+   * @param stage - stage name
+   * @param action - stage action
+   */
+  public void recordRun(String stage, Runnable action) {
+    record(stage, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  private void stop(String stage, long start, String outcome) {
+    var duration = System.nanoTime() - start;
+    var tenant = Objects.requireNonNullElse(folioExecutionContext.getTenantId(), UNKNOWN_TENANT);
+    meterRegistry.timer(TIMER_NAME, "stage", stage, "tenant", tenant, "outcome", outcome)
+      .record(duration, TimeUnit.NANOSECONDS);
+
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    var timings = requestAttributes != null
+      ? requestAttributes.getAttribute(StageTimings.REQUEST_ATTRIBUTE, SCOPE_REQUEST)
+      : null;
+    if (timings instanceof StageTimings stageTimings) {
+      stageTimings.add(stage, duration);
+    }
+  }
+}
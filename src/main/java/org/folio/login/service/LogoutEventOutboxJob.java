@@ -0,0 +1,49 @@
+package org.folio.login.service;
+
+import static org.folio.login.domain.repository.LogoutEventOutboxRepository.OUTBOX_TABLE;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.common.utils.OkapiHeaders;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.integration.kafka.LogoutEventOutboxRelay;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically drains logout event outboxes of all enabled tenants.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.logout-event-outbox.enabled", havingValue = "true")
+public class LogoutEventOutboxJob {
+
+  private final LogoutEventOutboxRelay outboxRelay;
+  private final LogoutEventOutboxProperties outboxProperties;
+  private final TenantDiscoveryService tenantDiscoveryService;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  @Scheduled(fixedDelayString = "${application.logout-event-outbox.relay-interval:1s}")
+  public void relayTenants() {
+    tenantDiscoveryService.getTenants(OUTBOX_TABLE).forEach(this::relayTenant);
+  }
+
+  private void relayTenant(String tenant) {
+    Map<String, Collection<String>> headers = Map.of(OkapiHeaders.TENANT, List.of(tenant));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      var batchSize = outboxProperties.getRelayBatchSize();
+      while (outboxRelay.relayBatch(tenant) == batchSize) {
+        log.debug("Outbox batch is full, relaying the next one: tenant = {}", tenant);
+      }
+    } catch (Exception e) {
+      log.warn("Failed to relay logout events: tenant = {}", tenant, e);
+    }
+  }
+}
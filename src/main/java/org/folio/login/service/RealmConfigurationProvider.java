@@ -1,36 +1,164 @@
 package org.folio.login.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.log4j.Log4j2;
+import org.folio.login.configuration.property.RealmConfigurationCacheProperties;
 import org.folio.login.domain.model.KeycloakRealmConfiguration;
 import org.folio.login.integration.keycloak.config.KeycloakProperties;
+import org.folio.login.util.SizeEvictionWarningListener;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.tools.store.SecureStore;
 import org.folio.tools.store.exception.SecureStoreServiceException;
 import org.folio.tools.store.properties.SecureStoreProperties;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Provides per-tenant realm configuration with the client secret read from the secure store.
+ *
+ * <p>A cached configuration older than the refresh interval is reloaded in background, on access and by a periodic
+ * sweep over all cached tenants, while the cached value is still served. If the reload fails, the last successfully
+ * loaded value is kept and served up to the maximum staleness, so a slow or unavailable secure store does not affect
+ * logins of the cached tenants.</p>
+ */
+@Log4j2
 @Service
-@RequiredArgsConstructor
 public class RealmConfigurationProvider {
 
+  static final String CACHE_NAME = "keycloak-configuration";
+  static final String LOAD_TIMER_NAME = "keycloak.configuration.load";
+
   private final SecureStore secureStore;
   private final FolioExecutionContext folioExecutionContext;
   private final KeycloakProperties keycloakProperties;
   private final SecureStoreProperties secureStoreProperties;
+  private final MeterRegistry meterRegistry;
+  private final Executor refreshExecutor;
+  private final Ticker ticker;
+  private final long ttlNanos;
+  private final long refreshAfterNanos;
+  private final long maxStalenessNanos;
+  private final LoadingCache<String, CachedRealmConfiguration> cache;
+
+  @Autowired
+  public RealmConfigurationProvider(SecureStore secureStore, FolioExecutionContext folioExecutionContext,
+    KeycloakProperties keycloakProperties, SecureStoreProperties secureStoreProperties,
+    RealmConfigurationCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+    this(secureStore, folioExecutionContext, keycloakProperties, secureStoreProperties, cacheProperties,
+      meterRegistry, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("realm-config-refresh-", 0).factory()),
+      Ticker.systemTicker());
+  }
+
+  RealmConfigurationProvider(SecureStore secureStore, FolioExecutionContext folioExecutionContext,
+    KeycloakProperties keycloakProperties, SecureStoreProperties secureStoreProperties,
+    RealmConfigurationCacheProperties cacheProperties, MeterRegistry meterRegistry, Executor refreshExecutor,
+    Ticker ticker) {
+    this.secureStore = secureStore;
+    this.folioExecutionContext = folioExecutionContext;
+    this.keycloakProperties = keycloakProperties;
+    this.secureStoreProperties = secureStoreProperties;
+    this.meterRegistry = meterRegistry;
+    this.refreshExecutor = refreshExecutor;
+    this.ticker = ticker;
+    this.ttlNanos = cacheProperties.getTtl().toNanos();
+    this.refreshAfterNanos = getRefreshAfter(cacheProperties).toNanos();
+    this.maxStalenessNanos = Math.max(ttlNanos, cacheProperties.getMaxStaleness().toNanos());
+    this.cache = createCache(cacheProperties);
+  }
 
   /**
    * Provides realm configuration using {@link FolioExecutionContext} object.
    *
    * @return {@link KeycloakRealmConfiguration} object for user authentication
    */
-  @Cacheable(cacheNames = "keycloak-configuration", key = "@folioExecutionContext.tenantId")
   public KeycloakRealmConfiguration getRealmConfiguration() {
-    var tenantId = folioExecutionContext.getTenantId();
-    var clientId = tenantId + keycloakProperties.getClientSuffix();
-    return new KeycloakRealmConfiguration()
-      .clientId(clientId)
-      .clientSecret(retrieveKcClientSecret(tenantId, clientId));
+    return getRealmConfiguration(folioExecutionContext.getTenantId());
+  }
+
+  /**
+   * Provides realm configuration for the given tenant.
+   *
+   * @param tenantId - tenant identifier
+   * @return {@link KeycloakRealmConfiguration} object for user authentication
+   */
+  public KeycloakRealmConfiguration getRealmConfiguration(String tenantId) {
+    return cache.get(tenantId).configuration();
+  }
+
+  /**
+   * Reloads in background cached realm configurations that are older than the refresh interval, so the configurations
+   * of tenants without recent logins are kept fresh as well.
+   */
+  @Scheduled(fixedDelayString = "${cache.keycloak-configuration.refresh-after:1800s}")
+  public void refreshStale() {
+    var now = ticker.read();
+    cache.asMap().forEach((tenantId, cached) -> {
+      if (now - cached.loadedAt() >= refreshAfterNanos) {
+        cache.refresh(tenantId);
+      }
+    });
+  }
+
+  /**
+   * Removes all cached realm configurations.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (refreshExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  private LoadingCache<String, CachedRealmConfiguration> createCache(
+    RealmConfigurationCacheProperties cacheProperties) {
+    LoadingCache<String, CachedRealmConfiguration> loadingCache = Caffeine.newBuilder()
+      .maximumSize(cacheProperties.getMaxSize())
+      .expireAfter(new RealmConfigurationExpiry())
+      .refreshAfterWrite(Duration.ofNanos(refreshAfterNanos))
+      .removalListener(new SizeEvictionWarningListener<>(CACHE_NAME, cacheProperties.getMaxSize()))
+      .executor(refreshExecutor)
+      .ticker(ticker)
+      .recordStats()
+      .build(new RealmConfigurationLoader());
+    return CaffeineCacheMetrics.monitor(meterRegistry, loadingCache, CACHE_NAME);
+  }
+
+  private static Duration getRefreshAfter(RealmConfigurationCacheProperties cacheProperties) {
+    var ttl = cacheProperties.getTtl();
+    var refreshAfter = cacheProperties.getRefreshAfter();
+    return refreshAfter.compareTo(ttl) < 0 ? refreshAfter : ttl.dividedBy(2);
+  }
+
+  private KeycloakRealmConfiguration loadRealmConfiguration(String tenantId, String operation) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = "error";
+    try {
+      var clientId = tenantId + keycloakProperties.getClientSuffix();
+      var realmConfiguration = new KeycloakRealmConfiguration()
+        .clientId(clientId)
+        .clientSecret(retrieveKcClientSecret(tenantId, clientId));
+      outcome = "success";
+      return realmConfiguration;
+    } finally {
+      sample.stop(meterRegistry.timer(LOAD_TIMER_NAME, "operation", operation, "outcome", outcome));
+    }
   }
 
   private String retrieveKcClientSecret(String tenantId, String clientId) {
@@ -45,4 +173,70 @@ public class RealmConfigurationProvider {
   private String buildKey(String env, String tenantId, String clientId) {
     return String.format("%s_%s_%s", env, tenantId, clientId);
   }
+
+  /**
+   * Cached realm configuration with the ticker time of its last successful load.
+   *
+   * @param configuration - realm configuration
+   * @param loadedAt - ticker time of the last successful load, in nanoseconds
+   * @param stale - whether the last refresh failed and the value is kept as the last known one
+   */
+  private record CachedRealmConfiguration(KeycloakRealmConfiguration configuration, long loadedAt, boolean stale) {
+
+    CachedRealmConfiguration asStale() {
+      return new CachedRealmConfiguration(configuration, loadedAt, true);
+    }
+  }
+
+  private final class RealmConfigurationLoader implements CacheLoader<String, CachedRealmConfiguration> {
+
+    @Override
+    public CachedRealmConfiguration load(String tenantId) {
+      var loadedAt = ticker.read();
+      return new CachedRealmConfiguration(loadRealmConfiguration(tenantId, "load"), loadedAt, false);
+    }
+
+    @Override
+    public CachedRealmConfiguration reload(String tenantId, CachedRealmConfiguration oldValue) {
+      var loadedAt = ticker.read();
+      try {
+        return new CachedRealmConfiguration(loadRealmConfiguration(tenantId, "refresh"), loadedAt, false);
+      } catch (RuntimeException e) {
+        if (loadedAt - oldValue.loadedAt() >= maxStalenessNanos) {
+          throw e;
+        }
+        log.warn("Failed to refresh realm configuration, the last loaded one is served: tenantId = {}", tenantId, e);
+        return oldValue.asStale();
+      }
+    }
+  }
+
+  /**
+   * Expires a cached realm configuration after the TTL since its last successful load, or after the maximum staleness
+   * if its last refresh failed.
+   */
+  private final class RealmConfigurationExpiry implements Expiry<String, CachedRealmConfiguration> {
+
+    @Override
+    public long expireAfterCreate(String tenantId, CachedRealmConfiguration value, long currentTime) {
+      return expiresIn(value, currentTime);
+    }
+
+    @Override
+    public long expireAfterUpdate(String tenantId, CachedRealmConfiguration value, long currentTime,
+      long currentDuration) {
+      return expiresIn(value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String tenantId, CachedRealmConfiguration value, long currentTime,
+      long currentDuration) {
+      return currentDuration;
+    }
+
+    private long expiresIn(CachedRealmConfiguration value, long currentTime) {
+      var maxAge = value.stale() ? maxStalenessNanos : ttlNanos;
+      return Math.max(0, value.loadedAt() + maxAge - currentTime);
+    }
+  }
 }
@@ -0,0 +1,106 @@
+package org.folio.login.service;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Strings;
+import org.folio.login.domain.model.ParsedToken;
+import org.folio.login.exception.TokenValidationException;
+import org.folio.login.integration.keycloak.config.KeycloakProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects refresh tokens that Keycloak would reject anyway, before the realm configuration is resolved and Keycloak
+ * is called.
+ *
+ * <p>The signature is not verified, Keycloak remains responsible for it. Only the claims are checked: token type, the
+ * issuer realm, from which the target realm is resolved, and expiration. If the request tenant is given, the issuer
+ * realm must match it; token refresh does not give it, because the realm is resolved from the token by design. The
+ * issuer URL is compared with {@code application.keycloak.issuer-url} only if it is set: Keycloak issues tokens with
+ * its frontend hostname, which usually differs from the internal {@code KC_URL} used by the module.</p>
+ */
+@Log4j2
+@Component
+public class RefreshTokenValidator {
+
+  static final String REJECTED_COUNTER_NAME = "login.refresh.token.rejected";
+
+  private static final String REFRESH_TYPE = "Refresh";
+  private static final String OFFLINE_TYPE = "Offline";
+  private static final Set<String> SUPPORTED_TYPES = Set.of(REFRESH_TYPE, OFFLINE_TYPE);
+  private static final String REALMS_PATH = "/realms/";
+
+  private final MeterRegistry meterRegistry;
+  private final String issuerUrl;
+  private final Clock clock;
+
+  @Autowired
+  public RefreshTokenValidator(MeterRegistry meterRegistry, KeycloakProperties keycloakProperties) {
+    this(meterRegistry, keycloakProperties.getIssuerUrl(), Clock.systemUTC());
+  }
+
+  RefreshTokenValidator(MeterRegistry meterRegistry, String issuerUrl, Clock clock) {
+    this.meterRegistry = meterRegistry;
+    this.issuerUrl = isBlank(issuerUrl) ? null : Strings.CS.removeEnd(issuerUrl, "/");
+    this.clock = clock;
+  }
+
+  /**
+   * Validates claims of the refresh token, the issuer realm can differ from the request tenant.
+   *
+   * @param refreshToken - parsed refresh token
+   * @param operation - name of the operation using the token, used as a metric tag
+   * @throws TokenValidationException if token is not a refresh token, has no issuer realm or is expired
+   */
+  public void validate(ParsedToken refreshToken, String operation) {
+    validate(refreshToken, operation, null);
+  }
+
+  /**
+   * Validates claims of the refresh token, that must be issued by the realm of the request tenant.
+   *
+   * @param refreshToken - parsed refresh token
+   * @param operation - name of the operation using the token, used as a metric tag
+   * @param tenant - request tenant, nullable, the issuer realm is not compared with it if null
+   * @throws TokenValidationException if token is not a refresh token, is issued by another realm or Keycloak, or is
+   *   expired
+   */
+  public void validate(ParsedToken refreshToken, String operation, String tenant) {
+    var reason = findRejectionReason(refreshToken, tenant);
+    if (reason != null) {
+      meterRegistry.counter(REJECTED_COUNTER_NAME, "operation", operation, "reason", reason).increment();
+      log.debug("Refresh token is rejected without calling Keycloak [operation: {}, reason: {}]", operation, reason);
+      throw new TokenValidationException("Invalid refresh token: " + reason);
+    }
+  }
+
+  private String findRejectionReason(ParsedToken refreshToken, String tenant) {
+    if (!SUPPORTED_TYPES.contains(refreshToken.getType())) {
+      return "type";
+    }
+
+    var issuer = refreshToken.getIssuer();
+    if (!Strings.CS.contains(issuer, REALMS_PATH) || isBlank(refreshToken.getTenant())) {
+      return "issuer";
+    }
+
+    if (tenant != null && !tenant.equals(refreshToken.getTenant())) {
+      return "realm";
+    }
+
+    if (issuerUrl != null && !issuer.equals(issuerUrl + REALMS_PATH + refreshToken.getTenant())) {
+      return "issuer-url";
+    }
+
+    // offline tokens of sessions without max lifespan are issued without expiration
+    var expiration = refreshToken.getExpiration();
+    if (expiration == null || expiration == 0) {
+      return OFFLINE_TYPE.equals(refreshToken.getType()) ? null : "expiration";
+    }
+    return expiration <= clock.instant().getEpochSecond() ? "expired" : null;
+  }
+}
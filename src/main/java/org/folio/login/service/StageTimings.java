@@ -0,0 +1,43 @@
+package org.folio.login.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Durations of the request processing stages, reported in the {@code Server-Timing} response header.
+ *
+ * <p>Stored as a request attribute, so only the stages executed on the request thread are collected.</p>
+ */
+public class StageTimings {
+
+  public static final String REQUEST_ATTRIBUTE = StageTimings.class.getName();
+
+  private final Map<String, Long> durations = new LinkedHashMap<>();
+
+  /**
+   * Adds the stage duration, durations of a repeated stage are summed up.
+   *
+   * @param stage - stage name
+   * @param durationNanos - stage duration in nanoseconds
+   */
+  public void add(String stage, long durationNanos) {
+    durations.merge(stage, durationNanos, Long::sum);
+  }
+
+  public boolean isEmpty() {
+    return durations.isEmpty();
+  }
+
+  /**
+   * Formats the stage durations as a {@code Server-Timing} header value, e.g. {@code keycloak-token;dur=12.345}.
+   *
+   * @return header value with durations in milliseconds
+   */
+  public String toHeaderValue() {
+    return durations.entrySet().stream()
+      .map(entry -> String.format(Locale.ROOT, "%s;dur=%.3f", entry.getKey(), entry.getValue() / 1_000_000d))
+      .collect(Collectors.joining(", "));
+  }
+}
@@ -0,0 +1,38 @@
+package org.folio.login.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Discovers tenants, enabled for the module, by their database schemas.
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantDiscoveryService {
+
+  private static final String FIND_SCHEMAS_SQL = "SELECT table_schema FROM information_schema.tables "
+    + "WHERE table_name = ? AND table_schema LIKE ? ESCAPE '\\'";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  /**
+   * Returns tenants, which schemas contain the given table.
+   *
+   * @param tableName - name of the table, created by the module's changelog
+   * @return list of tenant identifiers
+   */
+  public List<String> getTenants(String tableName) {
+    var schemaSuffix = folioModuleMetadata.getDBSchemaName("");
+    var schemaPattern = "%" + schemaSuffix.replace("\\", "\\\\").replace("_", "\\_").replace("%", "\\%");
+    return jdbcTemplate.queryForList(FIND_SCHEMAS_SQL, String.class, tableName, schemaPattern).stream()
+      .map(schema -> Strings.CS.removeEnd(schema, schemaSuffix))
+      .filter(StringUtils::isNotEmpty)
+      .toList();
+  }
+}
@@ -23,8 +23,9 @@ public class TokenCacheExpiry implements Expiry<String, KeycloakAuthentication>
   @Override
   public long expireAfterUpdate(String key, KeycloakAuthentication token, long currentTime, long currentDuration) {
     log.debug("expireAfterUpdate called: cacheKey = {}, tokenExpiresIn = {}", key, token.getExpiresIn());
-    log.debug("expireAfterUpdate result: expiresAfter = {} nanos", currentDuration);
-    return currentDuration;
+    Long expiresAfter = expireAfterCreateFunc.apply(token);
+    log.debug("expireAfterUpdate result: expiresAfter = {} nanos", expiresAfter);
+    return expiresAfter;
   }
 
   @Override
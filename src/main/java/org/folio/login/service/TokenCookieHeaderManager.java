@@ -1,6 +1,7 @@
 package org.folio.login.service;
 
 import static java.time.Instant.ofEpochSecond;
+import static org.folio.login.service.LoginStageMetrics.COOKIES;
 import static org.springframework.http.HttpHeaders.SET_COOKIE;
 
 import lombok.RequiredArgsConstructor;
@@ -22,8 +23,13 @@ public class TokenCookieHeaderManager {
   private static final long EXPIRED_DATE_IN_SECONDS = ofEpochSecond(0).toEpochMilli() * 1000;
 
   private final CookieProperties cookieProperties;
+  private final LoginStageMetrics stageMetrics;
 
   public HttpHeaders createAuthorizationCookieHeader(TokenContainer tokenContainer) {
+    return stageMetrics.record(COOKIES, () -> createCookieHeaders(tokenContainer));
+  }
+
+  private HttpHeaders createCookieHeaders(TokenContainer tokenContainer) {
     var accessToken = tokenContainer.getAccessToken();
     var refreshToken = tokenContainer.getRefreshToken();
 
@@ -0,0 +1,109 @@
+package org.folio.login.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.folio.login.configuration.property.TokenRefreshCacheProperties;
+import org.folio.login.domain.model.KeycloakAuthentication;
+import org.folio.login.exception.TokenRefreshException;
+import org.folio.login.util.SizeEvictionWarningListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent refreshes of the same refresh token into a single Keycloak call.
+ *
+ * <p>Browser tabs sharing the refresh token cookie refresh it at the same time. With refresh token rotation only the
+ * first Keycloak call succeeds, so the duplicates wait for the in-flight refresh and receive its result, which is kept
+ * in memory for a short time for the near-simultaneous requests. Tokens are keyed by their SHA-256 hash, so only a
+ * caller presenting the same refresh token can receive the result.</p>
+ */
+@Log4j2
+@Component
+public class TokenRefreshCoalescer {
+
+  static final String CACHE_NAME = "token-refresh";
+
+  private final AsyncCache<String, KeycloakAuthentication> cache;
+  private final Duration waitTimeout;
+
+  public TokenRefreshCoalescer(TokenRefreshCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+    this.cache = createCache(cacheProperties, meterRegistry);
+    this.waitTimeout = cacheProperties.getWaitTimeout();
+  }
+
+  /**
+   * Refreshes the token with the given function, unless a refresh of the same token is in progress or has just been
+   * completed. The function is executed on the calling thread.
+   *
+   * @param refreshToken - encoded refresh token
+   * @param refresher - function performing the Keycloak token refresh
+   * @return {@link KeycloakAuthentication} with the rotated tokens
+   * @throws TokenRefreshException if the refresh in progress is not completed within the wait timeout
+   */
+  public KeycloakAuthentication refresh(String refreshToken, Supplier<KeycloakAuthentication> refresher) {
+    if (cache == null || isBlank(refreshToken)) {
+      return refresher.get();
+    }
+
+    var refreshFuture = new CompletableFuture<KeycloakAuthentication>();
+    var result = cache.get(DigestUtils.sha256Hex(refreshToken), (key, executor) -> refreshFuture);
+    if (result != refreshFuture) {
+      log.debug("Token refresh is coalesced with the one in progress");
+      return await(result);
+    }
+
+    try {
+      var authentication = refresher.get();
+      refreshFuture.complete(authentication);
+      return authentication;
+    } catch (Throwable e) {
+      // failed futures are removed from the cache, so the next request retries the refresh, errors are handled the
+      // same way, otherwise the callers waiting for the refresh would never be released
+      refreshFuture.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private KeycloakAuthentication await(CompletableFuture<KeycloakAuthentication> result) {
+    try {
+      return result.get(waitTimeout.toMillis(), MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new TokenRefreshException("Token refresh in progress failed", e.getCause());
+    } catch (TimeoutException e) {
+      throw new TokenRefreshException("Token refresh in progress is not completed in " + waitTimeout, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TokenRefreshException("Interrupted while waiting for token refresh in progress", e);
+    }
+  }
+
+  private static AsyncCache<String, KeycloakAuthentication> createCache(TokenRefreshCacheProperties cacheProperties,
+    MeterRegistry meterRegistry) {
+    var ttl = cacheProperties.getTtl();
+    if (ttl.isZero() || ttl.isNegative()) {
+      return null;
+    }
+
+    AsyncCache<String, KeycloakAuthentication> asyncCache = Caffeine.newBuilder()
+      .maximumSize(cacheProperties.getMaxSize())
+      .expireAfterWrite(ttl)
+      .removalListener(new SizeEvictionWarningListener<>(CACHE_NAME, cacheProperties.getMaxSize()))
+      .recordStats()
+      .buildAsync();
+    return CaffeineCacheMetrics.monitor(meterRegistry, asyncCache, CACHE_NAME);
+  }
+}
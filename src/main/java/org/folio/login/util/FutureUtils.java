@@ -0,0 +1,24 @@
+package org.folio.login.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class FutureUtils {
+
+  /**
+   * Waits for the future result, a {@link RuntimeException} that completed the future is rethrown as is, so that it
+   * is handled the same way as if the task was executed in the calling thread.
+   *
+   * @param future - future to wait for
+   * @return future result
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package org.folio.login.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazy k-way merge of iterators, each of them is expected to be sorted with the same comparator.
+ *
+ * <p>Only one element per source is buffered, so sources are consumed only as far as the merged iterator is.</p>
+ *
+ * @param <T> - type of iterated elements
+ */
+public final class MergingIterator<T> implements Iterator<T> {
+
+  private final PriorityQueue<Head<T>> heads;
+  private Iterator<T> consumedSource;
+
+  /**
+   * Creates merging iterator.
+   *
+   * @param sources - sorted source iterators
+   * @param comparator - comparator the sources are sorted with
+   */
+  public MergingIterator(List<? extends Iterator<T>> sources, Comparator<? super T> comparator) {
+    this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+      (first, second) -> comparator.compare(first.value(), second.value()));
+    sources.forEach(this::advance);
+  }
+
+  @Override
+  public boolean hasNext() {
+    advanceConsumedSource();
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public T next() {
+    advanceConsumedSource();
+    var head = heads.poll();
+    if (head == null) {
+      throw new NoSuchElementException();
+    }
+
+    // the source is advanced only when the next element is requested
+    consumedSource = head.source();
+    return head.value();
+  }
+
+  private void advanceConsumedSource() {
+    if (consumedSource != null) {
+      advance(consumedSource);
+      consumedSource = null;
+    }
+  }
+
+  private void advance(Iterator<T> source) {
+    if (source.hasNext()) {
+      heads.add(new Head<>(source.next(), source));
+    }
+  }
+
+  private record Head<T>(T value, Iterator<T> source) {}
+}
@@ -0,0 +1,62 @@
+package org.folio.login.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Iterator over offset-paginated data, pages are loaded lazily only when the previous page is consumed.
+ *
+ * @param <R> - type of loaded records
+ * @param <T> - type of iterated elements
+ */
+public final class PagedIterator<R, T> implements Iterator<T> {
+
+  private final IntFunction<List<R>> pageLoader;
+  private final Function<List<R>, List<T>> pageMapper;
+  private final int pageSize;
+
+  private Iterator<T> currentPage = Collections.emptyIterator();
+  private int offset;
+  private boolean lastPageLoaded;
+
+  /**
+   * Creates iterator over offset-paginated data.
+   *
+   * @param pageLoader - function, loading a page of records by offset, expected to return at most pageSize records
+   * @param pageSize - page size, a shorter page is treated as the last one
+   * @param pageMapper - function, mapping a loaded page to iterated elements, it can filter out records
+   */
+  public PagedIterator(IntFunction<List<R>> pageLoader, int pageSize, Function<List<R>, List<T>> pageMapper) {
+    this.pageLoader = pageLoader;
+    this.pageSize = pageSize;
+    this.pageMapper = pageMapper;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext() && !lastPageLoaded) {
+      loadNextPage();
+    }
+    return currentPage.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  private void loadNextPage() {
+    var records = pageLoader.apply(offset);
+    var loadedRecords = records == null ? 0 : records.size();
+    offset += loadedRecords;
+    lastPageLoaded = loadedRecords < pageSize;
+    currentPage = loadedRecords == 0 ? Collections.emptyIterator() : pageMapper.apply(records).iterator();
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.login.util;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Warns that a cache is too small when its entries are evicted by size, at most once per minute.
+ *
+ * <p>Expired and invalidated entries are ignored, only size evictions mean that the cache thrashes.</p>
+ *
+ * @param <K> - cache key type
+ * @param <V> - cache value type
+ */
+@Log4j2
+public class SizeEvictionWarningListener<K, V> implements RemovalListener<K, V> {
+
+  private static final long WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final String cacheName;
+  private final long maxSize;
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong lastWarningNanos;
+
+  public SizeEvictionWarningListener(String cacheName, long maxSize) {
+    this.cacheName = cacheName;
+    this.maxSize = maxSize;
+    this.lastWarningNanos = new AtomicLong(System.nanoTime() - WARNING_INTERVAL_NANOS);
+  }
+
+  @Override
+  public void onRemoval(K key, V value, RemovalCause cause) {
+    if (cause != RemovalCause.SIZE) {
+      return;
+    }
+
+    var evictionCount = evictions.incrementAndGet();
+    var now = System.nanoTime();
+    var lastWarning = lastWarningNanos.get();
+    if (now - lastWarning >= WARNING_INTERVAL_NANOS && lastWarningNanos.compareAndSet(lastWarning, now)) {
+      log.warn("Cache entries are evicted by size, consider increasing the cache max size "
+        + "[cache: {}, maxSize: {}, evictions: {}]", cacheName, maxSize, evictionCount);
+    }
+  }
+
+  /**
+   * Returns the number of entries evicted by size since the listener creation.
+   *
+   * @return number of size evictions
+   */
+  public long getEvictionCount() {
+    return evictions.get();
+  }
+}
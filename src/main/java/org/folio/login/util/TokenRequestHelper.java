@@ -1,6 +1,7 @@
 package org.folio.login.util;
 
 import static org.keycloak.OAuth2Constants.AUTHORIZATION_CODE;
+import static org.keycloak.OAuth2Constants.CLIENT_CREDENTIALS;
 import static org.keycloak.OAuth2Constants.CLIENT_ID;
 import static org.keycloak.OAuth2Constants.CLIENT_SECRET;
 import static org.keycloak.OAuth2Constants.CODE;
@@ -50,4 +51,13 @@ public class TokenRequestHelper {
     form.add(REFRESH_TOKEN, refreshToken);
     return form;
   }
+
+  public static MultiValueMap<String, String> prepareClientCredentialsRequestBody(
+    KeycloakRealmConfiguration config) {
+    var form = new LinkedMultiValueMap<String, String>();
+    form.add(GRANT_TYPE, CLIENT_CREDENTIALS);
+    form.add(CLIENT_ID, config.getClientId());
+    form.add(CLIENT_SECRET, config.getClientSecret());
+    return form;
+  }
 }
@@ -0,0 +1,53 @@
+package org.folio.login.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.folio.common.utils.OkapiHeaders;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class FolioExecutionContextTaskDecoratorTest {
+
+  @InjectMocks private FolioExecutionContextTaskDecorator taskDecorator;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private FolioModuleMetadata folioModuleMetadata;
+
+  @Test
+  void decorate_positive() throws InterruptedException {
+    Map<String, Collection<String>> headers = Map.of(OkapiHeaders.TENANT, List.of(TENANT));
+    when(folioExecutionContext.getAllHeaders()).thenReturn(headers);
+    when(folioExecutionContext.getFolioModuleMetadata()).thenReturn(folioModuleMetadata);
+    var tenant = new AtomicReference<String>();
+
+    var task = taskDecorator.decorate(
+      () -> tenant.set(FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getTenantId()));
+    Thread.ofVirtual().start(task).join();
+
+    assertThat(tenant).hasValue(TENANT);
+  }
+
+  @Test
+  void decorate_positive_noContext() {
+    when(folioExecutionContext.getAllHeaders()).thenReturn(Map.of());
+    Runnable task = () -> {};
+
+    var actual = taskDecorator.decorate(task);
+
+    assertThat(actual).isSameAs(task);
+  }
+}
@@ -0,0 +1,63 @@
+package org.folio.login.configuration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import org.folio.login.configuration.property.LogoutProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@UnitTest
+class LogoutExecutorConfigurationTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Test
+  void buildExecutor_positive_platformThreadsRejectTasksWhenQueueIsFull() {
+    var executor = (ThreadPoolTaskExecutor) LogoutExecutorConfiguration.buildExecutor("test-", logoutProperties(),
+      runnable -> runnable, false);
+    executor.initialize();
+    try {
+      executor.execute(this::awaitRelease);
+      executor.execute(this::awaitRelease);
+
+      assertThatThrownBy(() -> executor.execute(this::awaitRelease)).isInstanceOf(TaskRejectedException.class);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void buildExecutor_positive_virtualThreadsRejectTasksWhenLimitIsReached() {
+    var executor = (SimpleAsyncTaskExecutor) LogoutExecutorConfiguration.buildExecutor("test-", logoutProperties(),
+      runnable -> runnable, true);
+    try {
+      executor.execute(this::awaitRelease);
+      executor.execute(this::awaitRelease);
+
+      assertThatThrownBy(() -> executor.execute(this::awaitRelease)).isInstanceOf(TaskRejectedException.class);
+    } finally {
+      release.countDown();
+      executor.close();
+    }
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static LogoutProperties logoutProperties() {
+    var properties = new LogoutProperties();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(1);
+    return properties;
+  }
+}
@@ -32,7 +32,6 @@ import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaAdmin;
@@ -48,7 +47,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @UnitTest
-@MockitoBean(types = {KafkaAdmin.class, CacheManager.class})
+@MockitoBean(types = KafkaAdmin.class)
 @WebMvcTest(ApiExceptionHandlerTest.TestController.class)
 @Import({ApiExceptionHandler.class, ApiExceptionHandlerTest.TestController.class})
 class ApiExceptionHandlerTest {
@@ -0,0 +1,68 @@
+package org.folio.login.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.folio.login.service.BulkCredentialsService;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@UnitTest
+@MockitoBean(types = KafkaAdmin.class)
+@Import(ApiExceptionHandler.class)
+@WebMvcTest(BulkCredentialsController.class)
+class BulkCredentialsControllerTest {
+
+  private static final String REQUEST = "{\"userId\":\"user1\",\"password\":\"pwd\"}\n";
+  private static final String RESULT = "{\"line\":1,\"userId\":\"user1\",\"status\":\"CREATED\"}\n";
+
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean private BulkCredentialsService bulkCredentialsService;
+
+  @Test
+  void createCredentials_positive() throws Exception {
+    doAnswer(invocation -> {
+      var input = invocation.<InputStream>getArgument(0);
+      if (new String(input.readAllBytes(), UTF_8).equals(REQUEST)) {
+        invocation.<OutputStream>getArgument(1).write(RESULT.getBytes(UTF_8));
+      }
+      return null;
+    }).when(bulkCredentialsService).createAuthCredentials(any(), any());
+
+    mockMvc.perform(post("/authn/credentials/bulk")
+        .contentType(APPLICATION_NDJSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(REQUEST))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_NDJSON))
+      .andExpect(content().string(RESULT));
+  }
+
+  @Test
+  void createCredentials_negative_jsonBody() throws Exception {
+    mockMvc.perform(post("/authn/credentials/bulk")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content("[]"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+  }
+}
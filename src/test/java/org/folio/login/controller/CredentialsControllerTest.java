@@ -5,29 +5,35 @@ import static org.folio.login.support.TestConstants.USER_ID;
 import static org.folio.login.support.TestValues.loginCredentials;
 import static org.folio.login.support.TestValues.updateCredentials;
 import static org.folio.test.TestUtils.asJsonString;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+import java.util.Map;
 import org.folio.login.domain.dto.CredentialsExistence;
+import org.folio.login.domain.dto.CredentialsExistenceCollection;
+import org.folio.login.domain.dto.CredentialsExistenceRequest;
 import org.folio.login.service.CredentialsService;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
-@MockitoBean(types = {KafkaAdmin.class, CacheManager.class})
+@MockitoBean(types = KafkaAdmin.class)
 @Import(ApiExceptionHandler.class)
 @WebMvcTest(CredentialsController.class)
 class CredentialsControllerTest {
@@ -59,6 +65,30 @@ class CredentialsControllerTest {
       .andExpect(status().isOk());
   }
 
+  @Test
+  void checkExistenceBatch_positive() throws Exception {
+    var userIds = List.of("user1", "user2");
+    var response = new CredentialsExistenceCollection().credentialsExist(Map.of("user1", true, "user2", false));
+    when(credentialsService.checkCredentialsExistence(userIds)).thenReturn(response);
+
+    mockMvc.perform(post("/authn/credentials-existence/batch")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(asJsonString(new CredentialsExistenceRequest().userIds(userIds))))
+      .andExpect(status().isOk())
+      .andExpect(content().json(asJsonString(response)));
+  }
+
+  @Test
+  void checkExistenceBatch_negative_emptyUserIds() throws Exception {
+    mockMvc.perform(post("/authn/credentials-existence/batch")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(asJsonString(new CredentialsExistenceRequest().userIds(List.of()))))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+  }
+
   @Test
   void deleteCredentials_positive() throws Exception {
     doNothing().when(credentialsService).deleteAuthCredentials(USER_ID);
@@ -0,0 +1,93 @@
+package org.folio.login.controller;
+
+import static org.folio.login.domain.dto.LogEventType.SUCCESSFUL_LOGIN_ATTEMPT;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.folio.login.support.TestConstants.USER_ID;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+import org.folio.login.domain.dto.LogEvent;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.login.service.LogEventsService;
+import org.folio.login.service.LoginEventStoreService;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@UnitTest
+@MockitoBean(types = KafkaAdmin.class)
+@Import(ApiExceptionHandler.class)
+@WebMvcTest(LogEventsController.class)
+class LogEventsControllerTest {
+
+  private static final UUID EVENT_ID = UUID.fromString("8d1b8c3e-5a0e-4c1c-9b55-0f2a6f3c4d21");
+
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean private LogEventsService logEventsService;
+  @MockitoBean private LoginEventStoreService loginEventStoreService;
+
+  @Test
+  void saveLogEvent_positive() throws Exception {
+    var logEvent = logEvent();
+    when(loginEventStoreService.saveEvent(logEvent)).thenReturn(EVENT_ID);
+
+    mockMvc.perform(post("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(asJsonString(logEvent)))
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.message", is("Log event accepted: " + EVENT_ID)));
+  }
+
+  @Test
+  void saveLogEvent_negative_eventTypeMissing() throws Exception {
+    mockMvc.perform(post("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(asJsonString(logEvent().eventType(null))))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+
+    verifyNoInteractions(loginEventStoreService);
+  }
+
+  @Test
+  void deleteLogEvent_positive() throws Exception {
+    mockMvc.perform(delete("/authn/log/events/{eventId}", EVENT_ID)
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isNoContent());
+
+    verify(loginEventStoreService).deleteEvent(EVENT_ID.toString());
+  }
+
+  @Test
+  void deleteLogEvent_negative_invalidEventId() throws Exception {
+    doThrow(new RequestValidationException("Invalid UUID", "eventId", "not-a-uuid"))
+      .when(loginEventStoreService).deleteEvent("not-a-uuid");
+
+    mockMvc.perform(delete("/authn/log/events/{eventId}", "not-a-uuid")
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+  }
+
+  private static LogEvent logEvent() {
+    return new LogEvent().tenant(TENANT).userId(USER_ID).eventType(SUCCESSFUL_LOGIN_ATTEMPT);
+  }
+}
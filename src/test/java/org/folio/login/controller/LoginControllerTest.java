@@ -2,6 +2,8 @@ package org.folio.login.controller;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.folio.login.domain.dto.UserLogoutStatus.LOGGED_OUT;
+import static org.folio.login.domain.dto.UserLogoutStatus.NOT_FOUND;
 import static org.folio.login.service.TokenCookieHeaderManager.FOLIO_ACCESS_TOKEN;
 import static org.folio.login.service.TokenCookieHeaderManager.FOLIO_REFRESH_TOKEN;
 import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
@@ -33,10 +35,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.servlet.http.Cookie;
+import java.util.List;
 import org.folio.login.configuration.property.TokenHeaderProperties;
 import org.folio.login.controller.cookie.advice.InvalidateCookiesResponseBodyAdvice;
+import org.folio.login.domain.dto.BulkLogoutRequest;
+import org.folio.login.domain.dto.BulkLogoutResponse;
 import org.folio.login.domain.dto.LoginCredentials;
+import org.folio.login.domain.dto.UserLogoutResult;
 import org.folio.login.exception.TokenLogoutException;
+import org.folio.login.service.BulkLogoutService;
 import org.folio.login.service.LoginService;
 import org.folio.login.service.TokenCookieHeaderManager;
 import org.folio.spring.integration.XOkapiHeaders;
@@ -45,7 +52,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.kafka.core.KafkaAdmin;
@@ -54,13 +60,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 
 @UnitTest
-@MockitoBean(types = {KafkaAdmin.class, CacheManager.class})
+@MockitoBean(types = KafkaAdmin.class)
 @Import({ApiExceptionHandler.class, InvalidateCookiesResponseBodyAdvice.class})
 @WebMvcTest(LoginController.class)
 class LoginControllerTest {
 
   @Autowired private MockMvc mockMvc;
   @MockitoBean private LoginService loginService;
+  @MockitoBean private BulkLogoutService bulkLogoutService;
   @MockitoBean private TokenHeaderProperties tokenHeaderProperties;
   @MockitoBean private TokenCookieHeaderManager tokenCookieHeaderManager;
 
@@ -339,4 +346,31 @@ class LoginControllerTest {
 
     return result;
   }
+
+  @Test
+  void bulkLogoutAll_positive() throws Exception {
+    var userIds = List.of("user1", "user2");
+    var response = new BulkLogoutResponse().totalRecords(2).loggedOut(1).failed(1)
+      .addResultsItem(new UserLogoutResult().userId("user1").status(LOGGED_OUT))
+      .addResultsItem(new UserLogoutResult().userId("user2").status(NOT_FOUND).message("User not found"));
+    when(bulkLogoutService.logoutAll(userIds)).thenReturn(response);
+
+    mockMvc.perform(post("/authn/logout-all/bulk")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, "test-tenant")
+        .content(asJsonString(new BulkLogoutRequest().userIds(userIds))))
+      .andExpect(status().isOk())
+      .andExpect(header().doesNotExist(SET_COOKIE))
+      .andExpect(content().json(asJsonString(response)));
+  }
+
+  @Test
+  void bulkLogoutAll_negative_emptyUserIds() throws Exception {
+    mockMvc.perform(post("/authn/logout-all/bulk")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, "test-tenant")
+        .content(asJsonString(new BulkLogoutRequest().userIds(List.of()))))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+  }
 }
@@ -25,14 +25,13 @@ import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
-@MockitoBean(types = {KafkaAdmin.class, CacheManager.class})
+@MockitoBean(types = KafkaAdmin.class)
 @Import(ApiExceptionHandler.class)
 @WebMvcTest(PasswordController.class)
 class PasswordControllerTest {
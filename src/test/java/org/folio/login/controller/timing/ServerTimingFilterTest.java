@@ -0,0 +1,68 @@
+package org.folio.login.controller.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.controller.timing.ServerTimingFilter.SERVER_TIMING;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import java.io.IOException;
+import org.folio.login.service.StageTimings;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@UnitTest
+class ServerTimingFilterTest {
+
+  private final ServerTimingFilter filter = new ServerTimingFilter();
+
+  @Test
+  void doFilter_positive() throws Exception {
+    var response = new MockHttpServletResponse();
+    var filterChain = new MockFilterChain(new StageRecordingServlet());
+
+    filter.doFilter(new MockHttpServletRequest("POST", "/authn/login"), response, filterChain);
+
+    assertThat(response.getHeader(SERVER_TIMING))
+      .isEqualTo("realm-configuration;dur=1.500, keycloak-token;dur=25.000");
+    assertThat(response.getContentAsString()).isEqualTo("{}");
+  }
+
+  @Test
+  void doFilter_positive_noStages() throws Exception {
+    var response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("POST", "/authn/logout"), response, new MockFilterChain());
+
+    assertThat(response.getHeader(SERVER_TIMING)).isNull();
+  }
+
+  @Test
+  void doFilter_positive_ndjsonRequestNotBuffered() throws Exception {
+    var request = new MockHttpServletRequest("POST", "/authn/credentials/bulk");
+    request.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    var response = new MockHttpServletResponse();
+    var filterChain = new MockFilterChain();
+
+    filter.doFilter(request, response, filterChain);
+
+    assertThat(filterChain.getResponse()).isSameAs(response);
+    assertThat(request.getAttribute(StageTimings.REQUEST_ATTRIBUTE)).isNull();
+  }
+
+  private static final class StageRecordingServlet extends HttpServlet {
+
+    @Override
+    public void service(ServletRequest request, ServletResponse response) throws IOException {
+      var timings = (StageTimings) request.getAttribute(StageTimings.REQUEST_ATTRIBUTE);
+      timings.add("realm-configuration", 1_500_000);
+      timings.add("keycloak-token", 25_000_000);
+      response.getWriter().write("{}");
+      response.flushBuffer();
+    }
+  }
+}
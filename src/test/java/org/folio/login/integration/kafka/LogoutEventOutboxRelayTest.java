@@ -0,0 +1,150 @@
+package org.folio.login.integration.kafka;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT;
+import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT_ALL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.domain.model.OutboxLogoutEvent;
+import org.folio.login.domain.repository.LogoutEventOutboxRepository;
+import org.folio.login.integration.kafka.event.LogoutEvent;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LogoutEventOutboxRelayTest {
+
+  private static final String TENANT = "testtenant";
+  private static final String TOPIC = "folio.testtenant.mod-login-keycloak.logout";
+
+  @Mock private LogoutEventOutboxRepository outboxRepository;
+  @Mock private KafkaTemplate<String, LogoutEvent> kafkaTemplate;
+
+  private LogoutEventOutboxRelay outboxRelay;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new LogoutEventOutboxProperties();
+    properties.setRelayBatchSize(2);
+    properties.setSendTimeout(Duration.ofSeconds(1));
+    outboxRelay = new LogoutEventOutboxRelay(outboxRepository, properties, kafkaTemplate);
+  }
+
+  @Test
+  void relayBatch_positive() {
+    var logout = outboxEvent(1L, "user1", LOGOUT);
+    var logoutAll = outboxEvent(2L, "user2", LOGOUT_ALL);
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of(logout, logoutAll));
+    when(kafkaTemplate.send(anyString(), anyString(), any(LogoutEvent.class))).thenReturn(sendResult());
+
+    var actual = outboxRelay.relayBatch(TENANT);
+
+    assertThat(actual).isEqualTo(2);
+    verify(kafkaTemplate).send(TOPIC, "user1", logout.event());
+    verify(kafkaTemplate).send(TOPIC, "user2", logoutAll.event());
+    verify(outboxRepository).deleteAll(TENANT, List.of(1L, 2L));
+  }
+
+  @Test
+  void relayBatch_positive_emptyOutbox() {
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of());
+
+    var actual = outboxRelay.relayBatch(TENANT);
+
+    assertThat(actual).isZero();
+    verifyNoInteractions(kafkaTemplate);
+    verify(outboxRepository, never()).deleteAll(any(), any());
+  }
+
+  @Test
+  void relayBatch_negative_sendFailed() {
+    var logout = outboxEvent(1L, "user1", LOGOUT);
+    var logoutAll = outboxEvent(2L, "user2", LOGOUT_ALL);
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of(logout, logoutAll));
+    when(kafkaTemplate.send(TOPIC, "user1", logout.event())).thenReturn(sendResult());
+    when(kafkaTemplate.send(TOPIC, "user2", logoutAll.event()))
+      .thenReturn(failedFuture(new TimeoutException("Topic not present in metadata")));
+
+    assertThatThrownBy(() -> outboxRelay.relayBatch(TENANT))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to send logout events: count = 2")
+      .hasCauseInstanceOf(TimeoutException.class);
+
+    verify(outboxRepository, never()).deleteAll(any(), any());
+  }
+
+  @Test
+  void relayBatch_positive_stoppedAtFirstFailedSend() {
+    var logout = outboxEvent(1L, "user1", LOGOUT);
+    var logoutAll = outboxEvent(2L, "user2", LOGOUT_ALL);
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of(logout, logoutAll));
+    when(kafkaTemplate.send(TOPIC, "user1", logout.event())).thenReturn(sendResult());
+    when(kafkaTemplate.send(TOPIC, "user2", logoutAll.event()))
+      .thenThrow(new KafkaException("Topic not present in metadata after 5000 ms"));
+
+    var actual = outboxRelay.relayBatch(TENANT);
+
+    assertThat(actual).isEqualTo(1);
+    verify(outboxRepository).deleteAll(TENANT, List.of(1L));
+  }
+
+  @Test
+  void relayBatch_positive_firstSendFailed() {
+    var logout = outboxEvent(1L, "user1", LOGOUT);
+    var logoutAll = outboxEvent(2L, "user2", LOGOUT_ALL);
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of(logout, logoutAll));
+    when(kafkaTemplate.send(TOPIC, "user1", logout.event()))
+      .thenThrow(new KafkaException("Topic not present in metadata after 5000 ms"));
+
+    var actual = outboxRelay.relayBatch(TENANT);
+
+    assertThat(actual).isZero();
+    verify(kafkaTemplate, never()).send(TOPIC, "user2", logoutAll.event());
+    verify(outboxRepository, never()).deleteAll(any(), any());
+  }
+
+  @Test
+  void relayBatch_negative_notAcknowledged() {
+    var logout = outboxEvent(1L, "user1", LOGOUT);
+    when(outboxRepository.lockBatch(TENANT, 2)).thenReturn(List.of(logout));
+    when(kafkaTemplate.send(TOPIC, "user1", logout.event())).thenReturn(new CompletableFuture<>());
+
+    assertThatThrownBy(() -> outboxRelay.relayBatch(TENANT))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Logout events are not acknowledged in PT1S: count = 1");
+
+    verify(outboxRepository, never()).deleteAll(any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CompletableFuture<SendResult<String, LogoutEvent>> sendResult() {
+    return completedFuture(mock(SendResult.class));
+  }
+
+  private static OutboxLogoutEvent outboxEvent(long id, String userId, LogoutEvent.Type type) {
+    var event = LogoutEvent.builder().userId(userId).type(type).build();
+    return new OutboxLogoutEvent(id, TOPIC, userId, event);
+  }
+}
@@ -1,13 +1,18 @@
 package org.folio.login.integration.kafka;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT;
 import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT_ALL;
+import static org.folio.login.support.TestConstants.SESSION_ID;
+import static org.folio.login.support.TestValues.parsedRefreshToken;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import org.folio.login.exception.TokenParsingException;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.domain.repository.LogoutEventOutboxRepository;
 import org.folio.login.integration.kafka.configuration.property.KafkaProperties;
 import org.folio.login.integration.kafka.event.LogoutEvent;
 import org.folio.spring.FolioExecutionContext;
@@ -23,17 +28,13 @@ import org.springframework.kafka.core.KafkaTemplate;
 @ExtendWith(MockitoExtension.class)
 class LogoutEventPublisherTest {
 
-  private static final String TOKEN =
-    "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9."
-      + "eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiaWF0IjoxNTE2MjM5MDIyLCJza"
-      + "WQiOiIxMTExMTExMS0xMTExLTExMTEtMTExMS0xMTExMTExMTExMTEifQ.anXSx_64-BoS6gQmVwr1zqiDVZX1vjGKpnTSj1UFb8A";
-  private static final String SESSION_ID = "11111111-1111-1111-1111-111111111111";
-
   @InjectMocks private LogoutEventPublisher logoutEventPublisher;
 
   @Mock private KafkaTemplate<String, LogoutEvent> kafkaTemplate;
   @Mock private FolioExecutionContext context;
   @Mock private KafkaProperties kafkaProperties;
+  @Mock private LogoutEventOutboxProperties outboxProperties;
+  @Mock private LogoutEventOutboxRepository outboxRepository;
 
   @Test
   void publishLogoutEvent_positive() {
@@ -43,7 +44,7 @@ class LogoutEventPublisherTest {
     when(context.getUserId()).thenReturn(userId);
     when(kafkaProperties.isProducerTenantCollection()).thenReturn(false);
 
-    logoutEventPublisher.publishLogoutEvent(TOKEN);
+    logoutEventPublisher.publishLogoutEvent(parsedRefreshToken());
 
     var expectedEvent = LogoutEvent.builder().userId(userId.toString()).sessionId(SESSION_ID).type(LOGOUT).build();
     var expectedMessageKey = userId.toString();
@@ -52,13 +53,6 @@ class LogoutEventPublisherTest {
     verify(kafkaTemplate).send(expectedTopicName, expectedMessageKey, expectedEvent);
   }
 
-  @Test
-  void publishLogoutEvent_negative_tokenParsingException() {
-    assertThatThrownBy(() -> logoutEventPublisher.publishLogoutEvent("invalidToken"))
-      .isInstanceOf(TokenParsingException.class)
-      .hasMessage("Cannot parse refresh token");
-  }
-
   @Test
   void publishLogoutAllEvent_positive() {
     var userId = UUID.randomUUID();
@@ -88,7 +82,7 @@ class LogoutEventPublisherTest {
     when(context.getUserId()).thenReturn(userId);
     when(kafkaProperties.isProducerTenantCollection()).thenReturn(true);
 
-    logoutEventPublisher.publishLogoutEvent(TOKEN);
+    logoutEventPublisher.publishLogoutEvent(parsedRefreshToken());
 
     var expectedEvent = LogoutEvent.builder().userId(userId.toString()).sessionId(SESSION_ID).type(LOGOUT).build();
     var expectedMessageKey = userId.toString();
@@ -117,4 +111,48 @@ class LogoutEventPublisherTest {
 
     verify(kafkaTemplate).send(expectedTopicName, expectedMessageKey, expectedEvent);
   }
+
+  @Test
+  void publishLogoutEvent_positive_outboxEnabled() {
+    var userId = UUID.randomUUID();
+    var tenantId = "testtenant";
+    when(context.getTenantId()).thenReturn(tenantId);
+    when(context.getUserId()).thenReturn(userId);
+    when(outboxProperties.isEnabled()).thenReturn(true);
+
+    logoutEventPublisher.publishLogoutEvent(parsedRefreshToken());
+
+    var expectedEvent = LogoutEvent.builder().userId(userId.toString()).sessionId(SESSION_ID).type(LOGOUT).build();
+    var expectedTopicName = String.format("folio.%s.mod-login-keycloak.logout", tenantId);
+
+    verify(outboxRepository).insert(tenantId, expectedTopicName, userId.toString(), expectedEvent);
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  @Test
+  void publishLogoutAllEvents_positive() {
+    var tenantId = "testtenant";
+    when(context.getTenantId()).thenReturn(tenantId);
+    when(kafkaProperties.isProducerTenantCollection()).thenReturn(false);
+
+    logoutEventPublisher.publishLogoutAllEvents(Map.of("user1", "kc-user1"));
+
+    var expectedEvent = LogoutEvent.builder().userId("user1").keycloakUserId("kc-user1").type(LOGOUT_ALL).build();
+    var expectedTopicName = String.format("folio.%s.mod-login-keycloak.logout", tenantId);
+    verify(kafkaTemplate).send(expectedTopicName, "user1", expectedEvent);
+  }
+
+  @Test
+  void publishLogoutAllEvents_positive_outboxEnabled() {
+    var tenantId = "testtenant";
+    when(context.getTenantId()).thenReturn(tenantId);
+    when(outboxProperties.isEnabled()).thenReturn(true);
+
+    logoutEventPublisher.publishLogoutAllEvents(Map.of("user1", "kc-user1"));
+
+    var expectedEvent = LogoutEvent.builder().userId("user1").keycloakUserId("kc-user1").type(LOGOUT_ALL).build();
+    var expectedTopicName = String.format("folio.%s.mod-login-keycloak.logout", tenantId);
+    verify(outboxRepository).insertAll(tenantId, expectedTopicName, List.of(expectedEvent));
+    verifyNoInteractions(kafkaTemplate);
+  }
 }
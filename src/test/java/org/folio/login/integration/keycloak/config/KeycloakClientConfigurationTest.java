@@ -0,0 +1,32 @@
+package org.folio.login.integration.keycloak.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KeycloakClientConfigurationTest {
+
+  private final KeycloakClientConfiguration configuration = new KeycloakClientConfiguration();
+
+  @Test
+  void keycloakHttpClient_positive_poolMetricsRegistered() throws Exception {
+    var properties = new KeycloakProperties();
+    properties.setUrl("http://keycloak:8080");
+    properties.getHttpClient().setMaxConnections(20);
+    properties.getHttpClient().setMaxConnectionsPerRoute(10);
+    var meterRegistry = new SimpleMeterRegistry();
+
+    try (var ignored = configuration.keycloakHttpClient(properties, meterRegistry)) {
+      var maxConnections = meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+        .tag("httpclient", "keycloak").gauge();
+      var maxRouteConnections = meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+        .tag("httpclient", "keycloak").gauge();
+
+      assertThat(maxConnections.value()).isEqualTo(20);
+      assertThat(maxRouteConnections.value()).isEqualTo(10);
+    }
+  }
+}
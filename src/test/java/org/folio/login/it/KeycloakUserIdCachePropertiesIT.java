@@ -0,0 +1,23 @@
+package org.folio.login.it;
+
+import static java.time.Duration.ofHours;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.login.configuration.property.KeycloakUserIdCacheProperties;
+import org.folio.login.support.base.BaseIntegrationTest;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class KeycloakUserIdCachePropertiesIT extends BaseIntegrationTest {
+
+  @Autowired
+  private KeycloakUserIdCacheProperties cacheProperties;
+
+  @Test
+  void cacheProperties_positive_boundFromConfiguration() {
+    assertThat(cacheProperties.getTtl()).isEqualTo(ofHours(1));
+    assertThat(cacheProperties.getMaxSize()).isEqualTo(10_000);
+  }
+}
@@ -13,11 +13,13 @@ import static org.folio.test.TestUtils.asJsonString;
 import static org.folio.test.TestUtils.parseResponse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.ArrayList;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.folio.login.domain.dto.LogEvent;
@@ -105,6 +107,35 @@ class LogEventsIT extends BaseIntegrationTest {
     assertEquals(0, logEvents.getLoggingEvent().size());
   }
 
+  @Test
+  void testLogEvents_cursorPagination() {
+    callLoginEndpoint();
+    callCredentialsUpdateEndpoint();
+    callLoginEndpointWithInvalidCreds();
+
+    var allEvents = getUserEvents(1, 100).getLoggingEvent();
+    var firstPage = getUserEvents(1, 2);
+    assertNotNull(firstPage.getNextCursor());
+
+    var secondPage = getUserEvents(firstPage.getNextCursor(), 2);
+    assertNull(secondPage.getNextCursor());
+    var pagedEvents = new ArrayList<>(firstPage.getLoggingEvent());
+    pagedEvents.addAll(secondPage.getLoggingEvent());
+    assertEquals(allEvents, pagedEvents);
+  }
+
+  @Test
+  void testLogEvents_filteredByQuery() {
+    callLoginEndpoint();
+    callCredentialsUpdateEndpoint();
+    callLoginEndpointWithInvalidCreds();
+
+    var logEvents = getUserEvents("userId==" + USER_ID + " and eventType==SUCCESSFUL_LOGIN_ATTEMPT");
+
+    assertEquals(1, logEvents.getTotalRecords());
+    assertEquals(SUCCESSFUL_LOGIN_ATTEMPT, logEvents.getLoggingEvent().get(0).getEventType());
+  }
+
   @Test
   void testLogEvents_noEvents() {
     var logEvents = getUserEvents(1, 100);
@@ -156,4 +187,27 @@ class LogEventsIT extends BaseIntegrationTest {
       .andReturn();
     return parseResponse(mvcResult, LogEventCollection.class);
   }
+
+  @SneakyThrows
+  private static LogEventCollection getUserEvents(String query) {
+    var mvcResult = mockMvc.perform(get("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .queryParam("query", query)
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isOk())
+      .andReturn();
+    return parseResponse(mvcResult, LogEventCollection.class);
+  }
+
+  @SneakyThrows
+  private static LogEventCollection getUserEvents(String cursor, int limit) {
+    var mvcResult = mockMvc.perform(get("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .queryParam("cursor", cursor)
+        .queryParam("length", String.valueOf(limit))
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isOk())
+      .andReturn();
+    return parseResponse(mvcResult, LogEventCollection.class);
+  }
 }
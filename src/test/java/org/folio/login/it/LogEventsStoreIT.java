@@ -0,0 +1,136 @@
+package org.folio.login.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.domain.dto.LogEventType.SUCCESSFUL_LOGIN_ATTEMPT;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.folio.login.support.TestConstants.USER_ID;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.folio.test.TestUtils.parseResponse;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+import lombok.SneakyThrows;
+import org.folio.login.domain.dto.LogEvent;
+import org.folio.login.domain.dto.LogEventCollection;
+import org.folio.login.service.LoginEventWriteBuffer;
+import org.folio.login.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+  "LOG_EVENTS_STORE_ENABLED=true",
+  "LOG_EVENTS_STORE_SYNC_INTERVAL=1h",
+  "LOG_EVENTS_WRITE_FLUSH_INTERVAL=1h"
+})
+class LogEventsStoreIT extends BaseIntegrationTest {
+
+  private static final String EVENT_ID = "5f6f7f2e-7b5c-4a3e-9a43-2e3c4a1b0c01";
+  private static final long EVENT_TIME = 1_700_000_000_000L;
+
+  @Autowired private LoginEventWriteBuffer loginEventWriteBuffer;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    enableTenant(TENANT);
+  }
+
+  @AfterAll
+  static void afterAll() {
+    removeTenant(TENANT);
+  }
+
+  @AfterEach
+  void afterEach() {
+    jdbcTemplate.execute("TRUNCATE " + folioModuleMetadata.getDBSchemaName(TENANT) + ".login_event");
+  }
+
+  @Test
+  void saveLogEvent_positive_returnedAfterFlush() {
+    saveLogEvent("127.0.0.1");
+    loginEventWriteBuffer.flush();
+
+    var actual = getLogEvents();
+
+    assertThat(actual.getTotalRecords()).isEqualTo(1);
+    assertThat(actual.getLoggingEvent()).singleElement().satisfies(event -> {
+      assertThat(event.getId()).isEqualTo(EVENT_ID);
+      assertThat(event.getUserId()).isEqualTo(USER_ID);
+      assertThat(event.getEventType()).isEqualTo(SUCCESSFUL_LOGIN_ATTEMPT);
+      assertThat(event.getIp()).isEqualTo("127.0.0.1");
+      assertThat(event.getTimestamp()).isEqualTo(new Date(EVENT_TIME));
+    });
+  }
+
+  @Test
+  void deleteLogEvent_positive_savedAgainAfterDelete() {
+    saveLogEvent("127.0.0.1");
+    loginEventWriteBuffer.flush();
+
+    deleteLogEvent();
+    saveLogEvent("127.0.0.2");
+    loginEventWriteBuffer.flush();
+
+    assertThat(getLogEvents().getLoggingEvent()).extracting(LogEvent::getIp).containsExactly("127.0.0.2");
+  }
+
+  @Test
+  void deleteLogEvent_positive_deletedAfterSave() {
+    saveLogEvent("127.0.0.1");
+    deleteLogEvent();
+    loginEventWriteBuffer.flush();
+
+    assertThat(getLogEvents().getLoggingEvent()).isEmpty();
+  }
+
+  @SneakyThrows
+  private static void saveLogEvent(String ip) {
+    var logEvent = new LogEvent()
+      .id(EVENT_ID)
+      .tenant(TENANT)
+      .userId(USER_ID)
+      .eventType(SUCCESSFUL_LOGIN_ATTEMPT)
+      .ip(ip)
+      .timestamp(new Date(EVENT_TIME));
+
+    mockMvc.perform(post("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .header(XOkapiHeaders.TENANT, TENANT)
+        .content(asJsonString(logEvent)))
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.message").value("Log event accepted: " + EVENT_ID));
+  }
+
+  @SneakyThrows
+  private static void deleteLogEvent() {
+    mockMvc.perform(delete("/authn/log/events/{eventId}", EVENT_ID)
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isNoContent());
+  }
+
+  @SneakyThrows
+  private static LogEventCollection getLogEvents() {
+    var mvcResult = mockMvc.perform(get("/authn/log/events")
+        .contentType(APPLICATION_JSON)
+        .queryParam("query", "userId==" + USER_ID)
+        .header(XOkapiHeaders.TENANT, TENANT))
+      .andExpect(status().isOk())
+      .andReturn();
+    return parseResponse(mvcResult, LogEventCollection.class);
+  }
+}
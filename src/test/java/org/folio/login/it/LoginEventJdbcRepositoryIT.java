@@ -0,0 +1,114 @@
+package org.folio.login.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.domain.dto.LogEventType.PASSWORD_RESET;
+import static org.folio.login.domain.dto.LogEventType.SUCCESSFUL_LOGIN_ATTEMPT;
+import static org.folio.login.support.TestConstants.TENANT;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.folio.login.domain.dto.LogEventType;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.repository.LoginEventJdbcRepository;
+import org.folio.login.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+class LoginEventJdbcRepositoryIT extends BaseIntegrationTest {
+
+  private static final UUID EVENT_ID_1 = UUID.fromString("1c4d2e1c-4bbd-4f83-8f2c-0c1f4cd1b001");
+  private static final UUID EVENT_ID_2 = UUID.fromString("1c4d2e1c-4bbd-4f83-8f2c-0c1f4cd1b002");
+  private static final UUID EVENT_ID_3 = UUID.fromString("1c4d2e1c-4bbd-4f83-8f2c-0c1f4cd1b003");
+  private static final UUID USER_ID = UUID.fromString("e9f3e5b5-8b7a-4bd4-9e5f-3c0c6f8e2a11");
+  private static final long EVENT_TIME = 1_700_000_000_000L;
+
+  @Autowired private LoginEventJdbcRepository loginEventJdbcRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    enableTenant(TENANT);
+  }
+
+  @AfterAll
+  static void afterAll() {
+    removeTenant(TENANT);
+  }
+
+  @AfterEach
+  void afterEach() {
+    jdbcTemplate.execute("TRUNCATE " + table());
+  }
+
+  @Test
+  void insertAll_positive() {
+    loginEventJdbcRepository.insertAll(TENANT, List.of(
+      loginEvent(EVENT_ID_1, SUCCESSFUL_LOGIN_ATTEMPT, EVENT_TIME),
+      loginEvent(EVENT_ID_2, PASSWORD_RESET, EVENT_TIME + 1)));
+
+    var actual = jdbcTemplate.queryForList(
+      "SELECT id, event_type, user_id, ip, event_time FROM " + table() + " ORDER BY event_time");
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0))
+      .containsEntry("id", EVENT_ID_1)
+      .containsEntry("event_type", SUCCESSFUL_LOGIN_ATTEMPT.getValue())
+      .containsEntry("user_id", USER_ID)
+      .containsEntry("ip", "127.0.0.1");
+    assertThat(((Date) actual.get(0).get("event_time")).getTime()).isEqualTo(EVENT_TIME);
+    assertThat(actual.get(1)).containsEntry("id", EVENT_ID_2)
+      .containsEntry("event_type", PASSWORD_RESET.getValue());
+  }
+
+  @Test
+  void insertAll_positive_existingEventsSkipped() {
+    loginEventJdbcRepository.insertAll(TENANT, List.of(loginEvent(EVENT_ID_1, SUCCESSFUL_LOGIN_ATTEMPT, EVENT_TIME)));
+
+    loginEventJdbcRepository.insertAll(TENANT, List.of(
+      loginEvent(EVENT_ID_1, PASSWORD_RESET, EVENT_TIME + 5),
+      loginEvent(EVENT_ID_2, SUCCESSFUL_LOGIN_ATTEMPT, EVENT_TIME + 1)));
+
+    assertThat(eventTypes()).containsExactly(
+      SUCCESSFUL_LOGIN_ATTEMPT.getValue(), SUCCESSFUL_LOGIN_ATTEMPT.getValue());
+  }
+
+  @Test
+  void deleteAll_positive() {
+    loginEventJdbcRepository.insertAll(TENANT, List.of(
+      loginEvent(EVENT_ID_1, SUCCESSFUL_LOGIN_ATTEMPT, EVENT_TIME),
+      loginEvent(EVENT_ID_2, SUCCESSFUL_LOGIN_ATTEMPT, EVENT_TIME + 1),
+      loginEvent(EVENT_ID_3, PASSWORD_RESET, EVENT_TIME + 2)));
+
+    loginEventJdbcRepository.deleteAll(TENANT, List.of(EVENT_ID_1, EVENT_ID_3, UUID.randomUUID()));
+
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM " + table(), UUID.class)).containsExactly(EVENT_ID_2);
+  }
+
+  private List<String> eventTypes() {
+    return jdbcTemplate.queryForList("SELECT event_type FROM " + table() + " ORDER BY event_time", String.class);
+  }
+
+  private String table() {
+    return folioModuleMetadata.getDBSchemaName(TENANT) + ".login_event";
+  }
+
+  private static LoginEventEntity loginEvent(UUID id, LogEventType eventType, long eventTime) {
+    var entity = new LoginEventEntity();
+    entity.setId(id);
+    entity.setEventType(eventType);
+    entity.setUserId(USER_ID);
+    entity.setIp("127.0.0.1");
+    entity.setBrowserInformation("Mozilla/5.0");
+    entity.setEventTime(new Date(eventTime));
+    return entity;
+  }
+}
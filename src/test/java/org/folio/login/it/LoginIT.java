@@ -25,6 +25,7 @@ import static org.folio.test.TestUtils.parseResponse;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -158,8 +159,10 @@ class LoginIT extends BaseIntegrationTest {
     doLogout(secondLoginTokens);
     assertThat(loadKcUserSessions()).isEmpty();
 
-    verify(keycloakService, times(2)).logout(firstLoginTokens.getRefreshToken());
-    verify(keycloakService).logout(secondLoginTokens.getRefreshToken());
+    var firstRefreshToken = firstLoginTokens.getRefreshToken();
+    var secondRefreshToken = secondLoginTokens.getRefreshToken();
+    verify(keycloakService, times(2)).logout(argThat(token -> firstRefreshToken.equals(token.getJwt())));
+    verify(keycloakService).logout(argThat(token -> secondRefreshToken.equals(token.getJwt())));
   }
 
   @Test
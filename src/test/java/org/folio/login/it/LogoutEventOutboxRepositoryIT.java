@@ -0,0 +1,99 @@
+package org.folio.login.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT;
+import static org.folio.login.integration.kafka.event.LogoutEvent.Type.LOGOUT_ALL;
+import static org.folio.login.support.TestConstants.TENANT;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.folio.login.domain.model.OutboxLogoutEvent;
+import org.folio.login.domain.repository.LogoutEventOutboxRepository;
+import org.folio.login.integration.kafka.event.LogoutEvent;
+import org.folio.login.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+class LogoutEventOutboxRepositoryIT extends BaseIntegrationTest {
+
+  private static final String TOPIC = "it-test.test.mod-login-keycloak.logout";
+
+  @Autowired private LogoutEventOutboxRepository outboxRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    enableTenant(TENANT);
+  }
+
+  @AfterAll
+  static void afterAll() {
+    removeTenant(TENANT);
+  }
+
+  @AfterEach
+  void afterEach() {
+    jdbcTemplate.execute("TRUNCATE " + folioModuleMetadata.getDBSchemaName(TENANT) + ".logout_event_outbox");
+  }
+
+  @Test
+  void insertAndLockBatch_positive() {
+    var logout = LogoutEvent.builder().userId("user1").sessionId("session1").type(LOGOUT).build();
+    var logoutAll = LogoutEvent.builder().userId("user2").keycloakUserId("kc-user2").type(LOGOUT_ALL).build();
+    outboxRepository.insert(TENANT, TOPIC, "user1", logout);
+    outboxRepository.insertAll(TENANT, TOPIC, List.of(logoutAll));
+
+    var actual = lockBatch(10);
+
+    assertThat(actual).extracting(OutboxLogoutEvent::topic, OutboxLogoutEvent::messageKey, OutboxLogoutEvent::event)
+      .containsExactly(
+        tuple(TOPIC, "user1", logout),
+        tuple(TOPIC, "user2", logoutAll));
+  }
+
+  @Test
+  void lockBatch_positive_lockedEventsSkipped() {
+    insertEvents("user1", "user2", "user3");
+
+    var concurrentBatch = transactionTemplate.execute(status -> {
+      var lockedBatch = outboxRepository.lockBatch(TENANT, 2);
+      assertThat(lockedBatch).extracting(OutboxLogoutEvent::messageKey).containsExactly("user1", "user2");
+      return CompletableFuture.supplyAsync(() -> lockBatch(10)).join();
+    });
+
+    assertThat(concurrentBatch).extracting(OutboxLogoutEvent::messageKey).containsExactly("user3");
+  }
+
+  @Test
+  void deleteAll_positive() {
+    insertEvents("user1", "user2", "user3");
+    var ids = lockBatch(10).stream().map(OutboxLogoutEvent::id).toList();
+
+    outboxRepository.deleteAll(TENANT, List.of(ids.get(0), ids.get(2)));
+
+    assertThat(lockBatch(10)).extracting(OutboxLogoutEvent::id).containsExactly(ids.get(1));
+  }
+
+  private List<OutboxLogoutEvent> lockBatch(int limit) {
+    return transactionTemplate.execute(status -> outboxRepository.lockBatch(TENANT, limit));
+  }
+
+  private void insertEvents(String... userIds) {
+    var events = Arrays.stream(userIds)
+      .map(userId -> LogoutEvent.builder().userId(userId).keycloakUserId("kc-" + userId).type(LOGOUT_ALL).build())
+      .toList();
+    outboxRepository.insertAll(TENANT, TOPIC, events);
+  }
+}
@@ -0,0 +1,58 @@
+package org.folio.login.it;
+
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import org.folio.login.configuration.property.RealmConfigurationCacheProperties;
+import org.folio.login.domain.model.KeycloakRealmConfiguration;
+import org.folio.login.service.RealmConfigurationProvider;
+import org.folio.login.support.base.BaseIntegrationTest;
+import org.folio.test.types.IntegrationTest;
+import org.folio.tools.store.SecureStore;
+import org.folio.tools.store.exception.SecureStoreServiceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+  "KC_CONFIG_TTL=2s",
+  "KC_CONFIG_REFRESH_AFTER=1s",
+  "KC_CONFIG_MAX_STALENESS=1h"
+})
+class RealmConfigurationCacheIT extends BaseIntegrationTest {
+
+  @Autowired private RealmConfigurationCacheProperties cacheProperties;
+  @Autowired private RealmConfigurationProvider realmConfigurationProvider;
+  @MockitoSpyBean private SecureStore secureStore;
+
+  @Test
+  void cacheProperties_positive_boundFromEnvironment() {
+    assertThat(cacheProperties.getTtl()).isEqualTo(ofSeconds(2));
+    assertThat(cacheProperties.getRefreshAfter()).isEqualTo(ofSeconds(1));
+    assertThat(cacheProperties.getMaxStaleness()).isEqualTo(ofHours(1));
+  }
+
+  @Test
+  void getRealmConfiguration_positive_lastLoadedValueServedAfterTtlIfSecureStoreFails() {
+    var loaded = realmConfigurationProvider.getRealmConfiguration(TENANT);
+    doThrow(new SecureStoreServiceException("unavailable")).when(secureStore).get(anyString());
+
+    await().pollDelay(ofSeconds(3)).atMost(ofSeconds(10))
+      .untilAsserted(() -> verify(secureStore, atLeast(2)).get(anyString()));
+    var actual = realmConfigurationProvider.getRealmConfiguration(TENANT);
+
+    assertThat(loaded).isEqualTo(new KeycloakRealmConfiguration()
+      .clientId("test-login-application")
+      .clientSecret("kc-client-password"));
+    assertThat(actual).isEqualTo(loaded);
+  }
+}
@@ -0,0 +1,100 @@
+package org.folio.login.service;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.folio.login.service.AdminTokenRenewalScheduler.RENEWAL_FAILURES;
+import static org.folio.login.service.AdminTokenRenewalScheduler.RENEWAL_TIMER;
+import static org.folio.login.support.TestConstants.EXPIRES_IN;
+import static org.folio.login.support.TestConstants.REFRESH_EXPIRES_IN;
+import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
+import static org.folio.login.support.TestValues.keycloakAuthentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.login.configuration.property.TokenCacheProperties;
+import org.folio.login.domain.model.KeycloakAuthentication;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AdminTokenRenewalSchedulerTest {
+
+  private static final String CACHE_KEY = "admin-cli-token";
+  private static final String RENEWED_ACCESS_TOKEN = "renewed-access-token";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private Cache<String, KeycloakAuthentication> adminTokenCache;
+  private AdminTokenRenewalScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new TokenCacheProperties();
+    properties.setRefreshBeforeExpirySec(25);
+    // renewal is started ~1 second after the token is cached
+    properties.setRenewAheadSec((int) EXPIRES_IN - 26);
+    properties.setRenewalRetryDelay(ofMillis(10));
+
+    adminTokenCache = new AdminTokenCacheFactory(properties).createCache();
+    scheduler = new AdminTokenRenewalScheduler(adminTokenCache, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void scheduleRenewal_positive() {
+    adminTokenCache.put(CACHE_KEY, keycloakAuthentication());
+
+    scheduler.scheduleRenewal(CACHE_KEY, AdminTokenRenewalSchedulerTest::renewedToken);
+
+    await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(adminTokenCache.getIfPresent(CACHE_KEY))
+      .extracting(KeycloakAuthentication::getAccessToken).isEqualTo(RENEWED_ACCESS_TOKEN));
+    assertThat(meterRegistry.get(RENEWAL_TIMER).tag("outcome", "success").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(RENEWAL_FAILURES).counter().count()).isZero();
+  }
+
+  @Test
+  void scheduleRenewal_positive_retriedAfterFailure() {
+    var attempts = new AtomicInteger();
+    Supplier<KeycloakAuthentication> tokenLoader = () -> {
+      if (attempts.getAndIncrement() == 0) {
+        throw new IllegalStateException("Keycloak is not available");
+      }
+      return renewedToken();
+    };
+    adminTokenCache.put(CACHE_KEY, keycloakAuthentication());
+
+    scheduler.scheduleRenewal(CACHE_KEY, tokenLoader);
+
+    await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(adminTokenCache.getIfPresent(CACHE_KEY))
+      .extracting(KeycloakAuthentication::getAccessToken).isEqualTo(RENEWED_ACCESS_TOKEN));
+    assertThat(attempts).hasValue(2);
+    assertThat(meterRegistry.get(RENEWAL_FAILURES).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void scheduleRenewal_negative_tokenNotCached() throws InterruptedException {
+    var attempts = new AtomicInteger();
+
+    scheduler.scheduleRenewal(CACHE_KEY, () -> {
+      attempts.incrementAndGet();
+      return renewedToken();
+    });
+
+    Thread.sleep(100);
+    assertThat(attempts).hasValue(0);
+    assertThat(adminTokenCache.getIfPresent(CACHE_KEY)).isNull();
+  }
+
+  private static KeycloakAuthentication renewedToken() {
+    return KeycloakAuthentication.of(RENEWED_ACCESS_TOKEN, REFRESH_TOKEN, EXPIRES_IN, REFRESH_EXPIRES_IN);
+  }
+}
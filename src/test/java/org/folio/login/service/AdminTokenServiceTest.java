@@ -3,8 +3,12 @@ package org.folio.login.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
 import static org.folio.login.support.TestConstants.CLIENT_ID;
+import static org.folio.login.support.TestConstants.CLIENT_SECRET;
+import static org.folio.login.support.TestConstants.EXPIRES_IN;
 import static org.folio.login.support.TestConstants.PASSWORD;
 import static org.folio.login.support.TestConstants.REALM;
+import static org.folio.login.support.TestConstants.REFRESH_EXPIRES_IN;
+import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
 import static org.folio.login.support.TestConstants.USERNAME;
 import static org.folio.login.support.TestValues.keycloakAuthentication;
 import static org.folio.login.support.TestValues.loginRequest;
@@ -16,6 +20,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Supplier;
 import org.folio.login.configuration.TokenCacheConfiguration;
 import org.folio.login.configuration.property.TokenCacheProperties;
 import org.folio.login.domain.model.KeycloakAuthentication;
@@ -25,12 +30,17 @@ import org.folio.login.integration.keycloak.config.KeycloakProperties;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 
 @UnitTest
 @SpringBootTest(classes = {AdminTokenService.class, TokenCacheConfiguration.class, TokenCacheProperties.class},
@@ -45,6 +55,7 @@ class AdminTokenServiceTest {
   @MockitoBean private KeycloakProperties keycloakProperties;
   @MockitoBean private KeycloakAdminProperties adminProperties;
   @MockitoBean private KeycloakClient keycloakClient;
+  @MockitoBean private AdminTokenRenewalScheduler adminTokenRenewalScheduler;
 
   @BeforeEach
   void setUp() {
@@ -68,6 +79,7 @@ class AdminTokenServiceTest {
 
     assertThat(issuedToken).isEqualTo("Bearer " + ACCESS_TOKEN);
     verify(keycloakClient).callTokenEndpoint(REALM, requestData, null, null);
+    verify(adminTokenRenewalScheduler).scheduleRenewal(eq(CACHE_KEY), any());
 
     // Verify cache.get(key, mappingFunction) was called - this method is thread-safe
     // and ensures atomic computation: only one thread will execute the mapping function
@@ -104,4 +116,67 @@ class AdminTokenServiceTest {
     // Verify Keycloak client was called only once (second call used cache)
     verify(keycloakClient, times(1)).callTokenEndpoint(REALM, requestData, null, null);
   }
+
+  @Test
+  void getAdminToken_positive_renewedWithRefreshToken() {
+    var requestData = loginRequest(USERNAME, PASSWORD, CLIENT_ID);
+    var refreshRequestData = refreshRequest();
+    var renewedToken = KeycloakAuthentication.of("renewed", REFRESH_TOKEN, EXPIRES_IN, REFRESH_EXPIRES_IN);
+    when(keycloakClient.callTokenEndpoint(REALM, requestData, null, null)).thenReturn(keycloakAuthentication());
+    when(keycloakClient.callTokenEndpoint(REALM, refreshRequestData, null, null)).thenReturn(renewedToken);
+
+    adminTokenService.getAdminToken(null, null);
+    var renewedAuthentication = captureTokenLoader().get();
+
+    assertThat(renewedAuthentication).isEqualTo(renewedToken);
+    verify(keycloakClient).callTokenEndpoint(REALM, requestData, null, null);
+    verify(keycloakClient).callTokenEndpoint(REALM, refreshRequestData, null, null);
+  }
+
+  @Test
+  void getAdminToken_positive_refreshFailedFallbackToPassword() {
+    var requestData = loginRequest(USERNAME, PASSWORD, CLIENT_ID);
+    var refreshRequestData = refreshRequest();
+    when(keycloakClient.callTokenEndpoint(REALM, requestData, null, null)).thenReturn(keycloakAuthentication());
+    when(keycloakClient.callTokenEndpoint(REALM, refreshRequestData, null, null))
+      .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+    adminTokenService.getAdminToken(null, null);
+    var renewedAuthentication = captureTokenLoader().get();
+
+    assertThat(renewedAuthentication).isEqualTo(keycloakAuthentication());
+    verify(keycloakClient, times(2)).callTokenEndpoint(REALM, requestData, null, null);
+    verify(keycloakClient).callTokenEndpoint(REALM, refreshRequestData, null, null);
+  }
+
+  @Test
+  void getAdminToken_positive_clientCredentials() {
+    var requestData = new LinkedMultiValueMap<String, String>();
+    requestData.add("grant_type", "client_credentials");
+    requestData.add("client_id", CLIENT_ID);
+    requestData.add("client_secret", CLIENT_SECRET);
+    when(adminProperties.getClientSecret()).thenReturn(CLIENT_SECRET);
+    when(keycloakClient.callTokenEndpoint(REALM, requestData, null, null)).thenReturn(keycloakAuthentication());
+
+    var issuedToken = adminTokenService.getAdminToken(null, null);
+
+    assertThat(issuedToken).isEqualTo("Bearer " + ACCESS_TOKEN);
+    verify(keycloakClient).callTokenEndpoint(REALM, requestData, null, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Supplier<KeycloakAuthentication> captureTokenLoader() {
+    var captor = ArgumentCaptor.forClass(Supplier.class);
+    verify(adminTokenRenewalScheduler).scheduleRenewal(eq(CACHE_KEY), captor.capture());
+    return captor.getValue();
+  }
+
+  private static MultiValueMap<String, String> refreshRequest() {
+    var form = new LinkedMultiValueMap<String, String>();
+    form.add("grant_type", "refresh_token");
+    form.add("client_id", CLIENT_ID);
+    form.add("client_secret", "");
+    form.add("refresh_token", REFRESH_TOKEN);
+    return form;
+  }
 }
@@ -0,0 +1,130 @@
+package org.folio.login.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.service.BulkCredentialsService.MAX_RECORD_LENGTH;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.folio.login.domain.dto.LoginCredentials;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.login.exception.ServiceException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.exception.NotFoundException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import tools.jackson.databind.ObjectMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class BulkCredentialsServiceTest {
+
+  @Mock private CredentialsService credentialsService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private BulkCredentialsService bulkCredentialsService;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    bulkCredentialsService = new BulkCredentialsService(credentialsService, folioExecutionContext,
+      new ObjectMapper(), new SyncTaskExecutor());
+  }
+
+  @Test
+  void createAuthCredentials_positive() throws IOException {
+    var input = """
+      {"userId":"user1","password":"pwd1"}
+
+      {"username":"user2","password":"pwd2"}
+      """;
+
+    var actual = createAuthCredentials(input);
+
+    assertThat(actual).isEqualTo("""
+      {"line":1,"userId":"user1","status":"CREATED"}
+      {"line":3,"username":"user2","status":"CREATED"}
+      """);
+    verify(credentialsService).createAuthCredentials(new LoginCredentials().userId("user1").password("pwd1"));
+    verify(credentialsService).createAuthCredentials(new LoginCredentials().username("user2").password("pwd2"));
+  }
+
+  @Test
+  void createAuthCredentials_positive_failuresReportedPerRecord() throws IOException {
+    var alreadyExists = new LoginCredentials().userId("user1").password("pwd");
+    var notFound = new LoginCredentials().userId("user2").password("pwd");
+    var failed = new LoginCredentials().userId("user3").password("pwd");
+    doThrow(new RequestValidationException("There already exists credentials for a user: user1", "userId", "user1"))
+      .when(credentialsService).createAuthCredentials(alreadyExists);
+    doThrow(new NotFoundException("Keycloak user doesn't exist"))
+      .when(credentialsService).createAuthCredentials(notFound);
+    doThrow(new ServiceException("Failed to create auth credentials", null))
+      .when(credentialsService).createAuthCredentials(failed);
+    var input = """
+      {"userId":"user1","password":"pwd"}
+      {"userId":"user2","password":"pwd"}
+      {"userId":"user3","password":"pwd"}
+      {"userId":"user4"}
+      {"userId":
+      """;
+
+    var actual = createAuthCredentials(input).lines().toList();
+
+    assertThat(actual).hasSize(5);
+    assertThat(actual.get(0)).contains("\"status\":\"ALREADY_EXISTS\"");
+    assertThat(actual.get(1)).contains("\"status\":\"NOT_FOUND\"");
+    assertThat(actual.get(2)).contains("\"status\":\"FAILED\"");
+    assertThat(actual.get(3))
+      .isEqualTo("{\"line\":4,\"userId\":\"user4\",\"status\":\"INVALID\","
+        + "\"message\":\"Password and userId or username are required\"}");
+    assertThat(actual.get(4)).startsWith("{\"line\":5,\"status\":\"INVALID\",\"message\":\"Invalid JSON: ");
+  }
+
+  @Test
+  void createAuthCredentials_positive_resultsInRecordOrder() throws IOException {
+    var input = IntStream.rangeClosed(1, 120)
+      .mapToObj(i -> "{\"userId\":\"user" + i + "\",\"password\":\"pwd\"}")
+      .collect(Collectors.joining("\n"));
+
+    var actual = createAuthCredentials(input).lines().toList();
+
+    assertThat(actual).hasSize(120);
+    assertThat(actual.get(0)).startsWith("{\"line\":1,\"userId\":\"user1\",");
+    assertThat(actual.get(119)).startsWith("{\"line\":120,\"userId\":\"user120\",");
+    verify(credentialsService, times(120)).createAuthCredentials(any());
+  }
+
+  @Test
+  void createAuthCredentials_positive_oversizedRecordReportedAsInvalid() throws IOException {
+    var oversized = "{\"userId\":\"user1\",\"password\":\"" + "x".repeat(MAX_RECORD_LENGTH) + "\"}";
+    var input = oversized + "\r\n{\"userId\":\"user2\",\"password\":\"pwd\"}\r\n";
+
+    var actual = createAuthCredentials(input);
+
+    assertThat(actual).isEqualTo("""
+      {"line":1,"status":"INVALID","message":"Record exceeds 65536 characters"}
+      {"line":2,"userId":"user2","status":"CREATED"}
+      """);
+    verify(credentialsService).createAuthCredentials(new LoginCredentials().userId("user2").password("pwd"));
+  }
+
+  private String createAuthCredentials(String input) throws IOException {
+    var output = new ByteArrayOutputStream();
+    bulkCredentialsService.createAuthCredentials(new ByteArrayInputStream(input.getBytes(UTF_8)), output);
+    return output.toString(UTF_8);
+  }
+}
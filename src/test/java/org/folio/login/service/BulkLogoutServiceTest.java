@@ -0,0 +1,118 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.domain.dto.UserLogoutStatus.FAILED;
+import static org.folio.login.domain.dto.UserLogoutStatus.LOGGED_OUT;
+import static org.folio.login.domain.dto.UserLogoutStatus.NOT_FOUND;
+import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.folio.login.domain.dto.UserLogoutResult;
+import org.folio.login.integration.kafka.LogoutEventPublisher;
+import org.folio.login.integration.keycloak.KeycloakClient;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.exception.NotFoundException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.KafkaException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class BulkLogoutServiceTest {
+
+  @Mock private AdminTokenService adminTokenService;
+  @Mock private KeycloakUserService keycloakUserService;
+  @Mock private KeycloakClient keycloakClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private LogoutEventPublisher logoutEventPublisher;
+  @Spy private SyncTaskExecutor keycloakExecutor = new SyncTaskExecutor();
+  @InjectMocks private BulkLogoutService bulkLogoutService;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(adminTokenService.getAdminToken(null, null)).thenReturn(ACCESS_TOKEN);
+  }
+
+  @Test
+  void logoutAll_positive() {
+    when(keycloakUserService.findKeycloakUserIdByUserId("user1", ACCESS_TOKEN)).thenReturn("kc-user1");
+    when(keycloakUserService.findKeycloakUserIdByUserId("user2", ACCESS_TOKEN)).thenReturn("kc-user2");
+
+    var actual = bulkLogoutService.logoutAll(List.of("user1", "user2", "user1"));
+
+    assertThat(actual.getTotalRecords()).isEqualTo(2);
+    assertThat(actual.getLoggedOut()).isEqualTo(2);
+    assertThat(actual.getFailed()).isZero();
+    assertThat(actual.getResults()).containsExactly(
+      new UserLogoutResult().userId("user1").status(LOGGED_OUT),
+      new UserLogoutResult().userId("user2").status(LOGGED_OUT));
+    verify(keycloakClient).logoutAll(TENANT, "kc-user1", ACCESS_TOKEN);
+    verify(keycloakClient).logoutAll(TENANT, "kc-user2", ACCESS_TOKEN);
+    verify(logoutEventPublisher).publishLogoutAllEvents(Map.of("user1", "kc-user1", "user2", "kc-user2"));
+  }
+
+  @Test
+  void logoutAll_positive_failuresReportedPerUser() {
+    when(keycloakUserService.findKeycloakUserIdByUserId("user1", ACCESS_TOKEN)).thenReturn("kc-user1");
+    when(keycloakUserService.findKeycloakUserIdByUserId("user2", ACCESS_TOKEN))
+      .thenThrow(new NotFoundException("User not found"));
+    when(keycloakUserService.findKeycloakUserIdByUserId("user3", ACCESS_TOKEN)).thenReturn("kc-user3");
+    when(keycloakUserService.findKeycloakUserIdByUserId("user4", ACCESS_TOKEN)).thenReturn("kc-user4");
+    doThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+      .when(keycloakClient).logoutAll(TENANT, "kc-user3", ACCESS_TOKEN);
+    doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+      .when(keycloakClient).logoutAll(TENANT, "kc-user4", ACCESS_TOKEN);
+
+    var actual = bulkLogoutService.logoutAll(List.of("user1", "user2", "user3", "user4"));
+
+    assertThat(actual.getTotalRecords()).isEqualTo(4);
+    assertThat(actual.getLoggedOut()).isEqualTo(1);
+    assertThat(actual.getFailed()).isEqualTo(3);
+    assertThat(actual.getResults()).extracting(UserLogoutResult::getStatus)
+      .containsExactly(LOGGED_OUT, NOT_FOUND, NOT_FOUND, FAILED);
+    verify(keycloakUserService).evictKeycloakUserId("user3");
+    verify(logoutEventPublisher).publishLogoutAllEvents(Map.of("user1", "kc-user1"));
+  }
+
+  @Test
+  void logoutAll_positive_eventsPublishedPerBatch() {
+    var userIds = IntStream.range(0, 120).mapToObj(i -> "user" + i).toList();
+    when(keycloakUserService.findKeycloakUserIdByUserId(any(), any())).thenReturn("kc-user");
+
+    var actual = bulkLogoutService.logoutAll(userIds);
+
+    assertThat(actual.getLoggedOut()).isEqualTo(120);
+    verify(adminTokenService, times(3)).getAdminToken(null, null);
+    verify(logoutEventPublisher, times(3)).publishLogoutAllEvents(any());
+  }
+
+  @Test
+  void logoutAll_positive_eventPublicationFailed() {
+    when(keycloakUserService.findKeycloakUserIdByUserId("user1", ACCESS_TOKEN)).thenReturn("kc-user1");
+    doThrow(new KafkaException("Topic not present in metadata"))
+      .when(logoutEventPublisher).publishLogoutAllEvents(any());
+
+    var actual = bulkLogoutService.logoutAll(List.of("user1"));
+
+    assertThat(actual.getLoggedOut()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,64 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.login.service.CachePrewarmRunner.TENANT_TABLE;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.folio.login.configuration.property.CachePrewarmProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CachePrewarmRunnerTest {
+
+  @InjectMocks private CachePrewarmRunner cachePrewarmRunner;
+
+  @Mock private TenantDiscoveryService tenantDiscoveryService;
+  @Mock private RealmConfigurationProvider realmConfigurationProvider;
+  @Mock private AdminTokenService adminTokenService;
+  @Spy private CachePrewarmProperties cachePrewarmProperties = prewarmProperties();
+
+  @Test
+  void run_positive() throws Exception {
+    when(tenantDiscoveryService.getTenants(TENANT_TABLE)).thenReturn(List.of("tenant1", "tenant2"));
+    when(realmConfigurationProvider.getRealmConfiguration("tenant1")).thenThrow(new IllegalStateException("failed"));
+
+    cachePrewarmRunner.run(null);
+
+    verify(adminTokenService).getAdminToken(null, null);
+    verify(realmConfigurationProvider).getRealmConfiguration("tenant1");
+    verify(realmConfigurationProvider).getRealmConfiguration("tenant2");
+  }
+
+  @Test
+  void run_positive_timeoutPassed() throws Exception {
+    var blocked = new CountDownLatch(1);
+    when(tenantDiscoveryService.getTenants(TENANT_TABLE)).thenThrow(new IllegalStateException("No database"));
+    when(adminTokenService.getAdminToken(null, null)).thenAnswer(inv -> {
+      blocked.await();
+      return null;
+    });
+
+    var startTime = System.nanoTime();
+    cachePrewarmRunner.run(null);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(5));
+  }
+
+  private static CachePrewarmProperties prewarmProperties() {
+    var properties = new CachePrewarmProperties();
+    properties.setParallelism(2);
+    properties.setTimeout(Duration.ofMillis(200));
+    return properties;
+  }
+}
@@ -6,6 +6,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import org.folio.login.exception.TokenParsingException;
+import org.folio.test.security.TestJwtGenerator;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +27,22 @@ class JwtTokenParserTest {
     assertThat(actual).isEqualTo("2023-08-28T16:44:31Z");
   }
 
+  @Test
+  void parseExpirationDate_positive_nestedClaimsSkipped() {
+    var claims = "{\"realm_access\":{\"exp\":1,\"roles\":[\"a\",{\"exp\":2}]},\"exp\":1693241071,\"sub\":\"?>?\"}";
+    var payload = Base64.getUrlEncoder().withoutPadding().encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+    var token = String.format("header.%s.sig", payload);
+    var actual = service.parseExpirationDate(token);
+    assertThat(actual).isEqualTo("2023-08-28T16:44:31Z");
+  }
+
+  @Test
+  void parseExpirationDate_positive_unsignedToken() {
+    var payload = Base64.getUrlEncoder().encodeToString("{\"exp\":1693241071}".getBytes(StandardCharsets.UTF_8));
+    var actual = service.parseExpirationDate("header." + payload);
+    assertThat(actual).isEqualTo("2023-08-28T16:44:31Z");
+  }
+
   @Test
   void parseExpirationDate_negative_nullToken() {
     assertThatThrownBy(() -> service.parseExpirationDate(null))
@@ -41,6 +58,20 @@ class JwtTokenParserTest {
       .hasMessage("Invalid amount of segments in JWT token.");
   }
 
+  @Test
+  void parseExpirationDate_negative_tooManySegments() {
+    assertThatThrownBy(() -> service.parseExpirationDate("a.b.c.d"))
+      .isInstanceOf(TokenParsingException.class)
+      .hasMessage("Invalid amount of segments in JWT token.");
+  }
+
+  @Test
+  void parseExpirationDate_negative_invalidBase64() {
+    assertThatThrownBy(() -> service.parseExpirationDate("header.e30*.sig"))
+      .isInstanceOf(TokenParsingException.class)
+      .hasMessage("Invalid token.");
+  }
+
   @Test
   void parseExpirationDate_negative_invalidToken() {
     var payload = Base64.getEncoder().encodeToString("{}".getBytes(StandardCharsets.UTF_8));
@@ -49,4 +80,50 @@ class JwtTokenParserTest {
       .isInstanceOf(TokenParsingException.class)
       .hasMessage("Invalid token.");
   }
+
+  @Test
+  void parse_positive() {
+    var claims = "{\"exp\":1693241071,\"iss\":\"http://keycloak:8080/realms/testtenant\",\"sub\":\"kc-user\","
+      + "\"typ\":\"Refresh\",\"realm_access\":{\"sid\":\"nested\"},\"session_state\":\"legacy\",\"sid\":\"sid\"}";
+    var token = "header." + encodeUrl(claims) + ".sig";
+
+    var actual = service.parse(token);
+
+    assertThat(actual.getJwt()).isEqualTo(token);
+    assertThat(actual.getTenant()).isEqualTo("testtenant");
+    assertThat(actual.getSubject()).isEqualTo("kc-user");
+    assertThat(actual.getSessionId()).isEqualTo("sid");
+    assertThat(actual.getType()).isEqualTo("Refresh");
+    assertThat(actual.getExpirationDate()).isEqualTo("2023-08-28T16:44:31Z");
+  }
+
+  @Test
+  void parse_positive_sessionStateClaim() {
+    var actual = service.parse("header." + encodeUrl("{\"session_state\":\"legacy\"}") + ".sig");
+
+    assertThat(actual.getSessionId()).isEqualTo("legacy");
+    assertThat(actual.getTenant()).isNull();
+    assertThat(actual.getExpiration()).isNull();
+  }
+
+  @Test
+  void parse_positive_generatedToken() {
+    var token = TestJwtGenerator.generateJwtToken("http://localhost:8081", "testtenant");
+
+    var actual = service.parse(token);
+
+    assertThat(actual.getTenant()).isEqualTo("testtenant");
+  }
+
+  @Test
+  void parse_negative_invalidToken() {
+    var token = "header." + encodeUrl("[\"exp\"]") + ".sig";
+    assertThatThrownBy(() -> service.parse(token))
+      .isInstanceOf(TokenParsingException.class)
+      .hasMessage("Invalid token.");
+  }
+
+  private static String encodeUrl(String claims) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+  }
 }
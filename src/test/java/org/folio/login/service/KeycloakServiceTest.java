@@ -3,6 +3,7 @@ package org.folio.login.service;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
 import static org.folio.login.support.TestConstants.AUTH_CODE;
 import static org.folio.login.support.TestConstants.BEARER_TOKEN;
@@ -23,6 +24,7 @@ import static org.folio.login.support.TestValues.loginCredentials;
 import static org.folio.login.support.TestValues.loginCredentialsWithoutId;
 import static org.folio.login.support.TestValues.loginRequest;
 import static org.folio.login.support.TestValues.loginRequestAuthCode;
+import static org.folio.login.support.TestValues.parsedRefreshToken;
 import static org.folio.login.support.TestValues.passwordResetAction;
 import static org.folio.login.support.TestValues.refreshTokenRequest;
 import static org.folio.login.support.TestValues.updateCredentials;
@@ -34,12 +36,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.configuration.property.LogoutProperties;
 import org.folio.login.domain.dto.CredentialsExistence;
 import org.folio.login.domain.model.KeycloakUser;
 import org.folio.login.domain.model.UserCredentials;
@@ -52,13 +62,19 @@ import org.folio.login.support.TestConstants;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.exception.NotFoundException;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.keycloak.OAuth2Constants;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.KafkaException;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
@@ -75,7 +91,21 @@ class KeycloakServiceTest {
   @Mock private FolioExecutionContext folioExecutionContext;
   @Mock private RealmConfigurationProvider realmConfigurationProvider;
   @Mock private LogoutEventPublisher logoutEventPublisher;
-  @InjectMocks private KeycloakService keycloakService;
+  @Spy private LoginStageMetrics stageMetrics =
+    new LoginStageMetrics(new SimpleMeterRegistry(), mock(FolioExecutionContext.class));
+  @Spy private SyncTaskExecutor keycloakExecutor = new SyncTaskExecutor();
+  @Spy private SyncTaskExecutor logoutExecutor = new SyncTaskExecutor();
+  @Spy private SyncTaskExecutor logoutEventExecutor = new SyncTaskExecutor();
+  private final LogoutProperties logoutProperties = new LogoutProperties();
+  private final LogoutEventOutboxProperties outboxProperties = new LogoutEventOutboxProperties();
+  private KeycloakService keycloakService;
+
+  @BeforeEach
+  void setUp() {
+    keycloakService = new KeycloakService(adminTokenService, userService, keycloakClient, folioExecutionContext,
+      realmConfigurationProvider, logoutEventPublisher, stageMetrics, keycloakExecutor, logoutProperties,
+      outboxProperties, logoutExecutor, logoutEventExecutor);
+  }
 
   @Test
   void getUserToken_positive() {
@@ -256,6 +286,7 @@ class KeycloakServiceTest {
 
     verify(keycloakClient).deleteUsersCredentials(REALM, TestConstants.KEYCLOAK_USER_ID, USER_CREDENTIAL_ID,
       BEARER_TOKEN);
+    verify(userService).evictKeycloakUserId(USER_ID);
   }
 
   @Test
@@ -293,6 +324,20 @@ class KeycloakServiceTest {
     assertFalse(result.getCredentialsExist());
   }
 
+  @Test
+  void checkCredentialsExistence_negative_keycloakUserNotFound() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(adminTokenService.getAdminToken(null, null)).thenReturn(BEARER_TOKEN);
+    when(userService.findKeycloakUserIdByUserId(USER_ID, BEARER_TOKEN)).thenReturn(TestConstants.KEYCLOAK_USER_ID);
+    when(keycloakClient.getUserCredentials(REALM, TestConstants.KEYCLOAK_USER_ID, BEARER_TOKEN))
+      .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+    assertThatThrownBy(() -> keycloakService.checkCredentialExistence(USER_ID))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("Failed to get credentials for a user: " + USER_ID);
+    verify(userService).evictKeycloakUserId(USER_ID);
+  }
+
   private CredentialsExistence checkCredentialsExistence(List<UserCredentials> list) {
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
     when(adminTokenService.getAdminToken(null, null)).thenReturn(BEARER_TOKEN);
@@ -325,6 +370,52 @@ class KeycloakServiceTest {
       .hasMessageContaining("User not found");
   }
 
+  @Test
+  void checkCredentialsExistence_positive_batch() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(adminTokenService.getAdminToken(null, null)).thenReturn(BEARER_TOKEN);
+    when(userService.findKeycloakUserIdByUserId("user1", BEARER_TOKEN)).thenReturn("kc-user1");
+    when(userService.findKeycloakUserIdByUserId("user2", BEARER_TOKEN)).thenReturn("kc-user2");
+    when(userService.findKeycloakUserIdByUserId("user3", BEARER_TOKEN))
+      .thenThrow(new NotFoundException("User not found"));
+    when(keycloakClient.getUserCredentials(REALM, "kc-user1", BEARER_TOKEN)).thenReturn(List.of(userCredentials()));
+    when(keycloakClient.getUserCredentials(REALM, "kc-user2", BEARER_TOKEN)).thenReturn(emptyList());
+
+    var result = keycloakService.checkCredentialExistence(List.of("user1", "user2", "user3", "user1"));
+
+    assertThat(result).containsExactly(entry("user1", true), entry("user2", false), entry("user3", false));
+    verify(adminTokenService).getAdminToken(null, null);
+  }
+
+  @Test
+  void checkCredentialsExistence_positive_batchStaleKeycloakUserId() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(adminTokenService.getAdminToken(null, null)).thenReturn(BEARER_TOKEN);
+    when(userService.findKeycloakUserIdByUserId(USER_ID, BEARER_TOKEN)).thenReturn("kc-stale", "kc-user");
+    when(keycloakClient.getUserCredentials(REALM, "kc-stale", BEARER_TOKEN))
+      .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+    when(keycloakClient.getUserCredentials(REALM, "kc-user", BEARER_TOKEN)).thenReturn(List.of(userCredentials()));
+
+    var result = keycloakService.checkCredentialExistence(List.of(USER_ID));
+
+    assertThat(result).containsExactly(entry(USER_ID, true));
+    verify(userService).evictKeycloakUserId(USER_ID);
+  }
+
+  @Test
+  void checkCredentialsExistence_positive_batchKeycloakUserNotFound() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(adminTokenService.getAdminToken(null, null)).thenReturn(BEARER_TOKEN);
+    when(userService.findKeycloakUserIdByUserId(USER_ID, BEARER_TOKEN)).thenReturn(TestConstants.KEYCLOAK_USER_ID);
+    when(keycloakClient.getUserCredentials(REALM, TestConstants.KEYCLOAK_USER_ID, BEARER_TOKEN))
+      .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+    var result = keycloakService.checkCredentialExistence(List.of(USER_ID));
+
+    assertThat(result).containsExactly(entry(USER_ID, false));
+    verify(userService, times(2)).evictKeycloakUserId(USER_ID);
+  }
+
   @Test
   void logout_positive() {
     var realmConfiguration = keycloakRealmConfiguration();
@@ -332,7 +423,8 @@ class KeycloakServiceTest {
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
     when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration);
 
-    keycloakService.logout(REFRESH_TOKEN);
+    var parsedToken = parsedRefreshToken();
+    keycloakService.logout(parsedToken);
 
     ArgumentCaptor<MultiValueMap<String, String>> tokenRequestCaptor = ArgumentCaptor.captor();
     verify(keycloakClient).logout(eq(TENANT), tokenRequestCaptor.capture());
@@ -344,7 +436,7 @@ class KeycloakServiceTest {
 
     var actual = tokenRequestCaptor.getValue();
     assertThat(actual).isEqualTo(expectedForm);
-    verify(logoutEventPublisher).publishLogoutEvent(REFRESH_TOKEN);
+    verify(logoutEventPublisher).publishLogoutEvent(parsedToken);
   }
 
   @Test
@@ -360,6 +452,112 @@ class KeycloakServiceTest {
     verify(logoutEventPublisher).publishLogoutAllEvent(KEYCLOAK_USER_ID);
   }
 
+  @Test
+  void logout_positive_eventPublicationFailed() {
+    var parsedToken = parsedRefreshToken();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(keycloakRealmConfiguration());
+    doThrow(new KafkaException("Topic not present in metadata"))
+      .when(logoutEventPublisher).publishLogoutEvent(parsedToken);
+
+    keycloakService.logout(parsedToken);
+
+    verify(keycloakClient).logout(eq(TENANT), any());
+  }
+
+  @Test
+  void logout_negative_keycloakError() {
+    var parsedToken = parsedRefreshToken();
+    var error = new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(keycloakRealmConfiguration());
+    doThrow(error).when(keycloakClient).logout(eq(TENANT), any());
+
+    assertThatThrownBy(() -> keycloakService.logout(parsedToken)).isSameAs(error);
+  }
+
+  @Test
+  void logout_positive_eventPublicationPending() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(keycloakRealmConfiguration());
+    doNothing().when(logoutEventExecutor).execute(any(Runnable.class));
+
+    keycloakService.logout(parsedRefreshToken());
+
+    verify(keycloakClient).logout(eq(TENANT), any());
+    verifyNoInteractions(logoutEventPublisher);
+  }
+
+  @Test
+  void logout_positive_eventPublicationRejected() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(keycloakRealmConfiguration());
+    doThrow(new TaskRejectedException("Queue is full")).when(logoutEventExecutor).execute(any(Runnable.class));
+
+    keycloakService.logout(parsedRefreshToken());
+
+    verify(keycloakClient).logout(eq(TENANT), any());
+    verifyNoInteractions(logoutEventPublisher);
+  }
+
+  @Test
+  void logout_positive_outboxEventSavedOnRequestThread() {
+    var parsedToken = parsedRefreshToken();
+    outboxProperties.setEnabled(true);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(keycloakRealmConfiguration());
+
+    keycloakService.logout(parsedToken);
+
+    verify(logoutEventPublisher).publishLogoutEvent(parsedToken);
+    verifyNoInteractions(logoutEventExecutor);
+  }
+
+  @Test
+  void logout_negative_outboxFailure() {
+    var parsedToken = parsedRefreshToken();
+    var error = new DataAccessResourceFailureException("Connection is closed");
+    outboxProperties.setEnabled(true);
+    doNothing().when(logoutExecutor).execute(any(Runnable.class));
+    doThrow(error).when(logoutEventPublisher).publishLogoutEvent(parsedToken);
+
+    assertThatThrownBy(() -> keycloakService.logout(parsedToken)).isSameAs(error);
+  }
+
+  @Test
+  void logout_negative_timeout() {
+    logoutProperties.setTimeout(Duration.ofMillis(10));
+    doNothing().when(logoutExecutor).execute(any(Runnable.class));
+
+    assertThatThrownBy(() -> keycloakService.logout(parsedRefreshToken()))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("Keycloak session is not terminated in PT0.01S");
+  }
+
+  @Test
+  void logoutAll_negative_timeout() {
+    logoutProperties.setTimeout(Duration.ofMillis(10));
+    when(folioExecutionContext.getUserId()).thenReturn(USER_UUID);
+    when(adminTokenService.getAdminToken(any(), any())).thenReturn(ACCESS_TOKEN);
+    doNothing().when(logoutExecutor).execute(any(Runnable.class));
+
+    assertThatThrownBy(() -> keycloakService.logoutAll())
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("Keycloak session is not terminated in PT0.01S");
+    verifyNoInteractions(logoutEventPublisher, keycloakClient);
+  }
+
+  @Test
+  void logoutAll_negative_userNotFound() {
+    var error = new NotFoundException("User not found");
+    when(folioExecutionContext.getUserId()).thenReturn(USER_UUID);
+    when(adminTokenService.getAdminToken(any(), any())).thenReturn(ACCESS_TOKEN);
+    when(userService.findKeycloakUserIdByUserId(USER_ID, ACCESS_TOKEN)).thenThrow(error);
+
+    assertThatThrownBy(() -> keycloakService.logoutAll()).isSameAs(error);
+    verifyNoInteractions(logoutEventPublisher, keycloakClient);
+  }
+
   @Test
   void refreshToken_positive() {
     var refreshToken = generateJwtToken("http://localhost:8081", TENANT);
@@ -372,7 +570,7 @@ class KeycloakServiceTest {
     when(keycloakClient.callTokenEndpoint(any(), any(), any(), any()))
       .thenReturn(keycloakAuth);
 
-    var actualAuth = keycloakService.refreshToken(refreshToken);
+    var actualAuth = keycloakService.refreshToken(parsedRefreshToken(refreshToken));
     assertThat(actualAuth).isEqualTo(keycloakAuth);
 
     ArgumentCaptor<MultiValueMap<String, String>> captor = ArgumentCaptor.captor();
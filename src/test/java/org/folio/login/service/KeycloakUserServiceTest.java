@@ -1,18 +1,26 @@
 package org.folio.login.service;
 
 import static java.util.Collections.emptyList;
+import static org.folio.login.domain.model.KeycloakUser.USER_ID_ATTR;
 import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
 import static org.folio.login.support.TestConstants.KEYCLOAK_USER_ID;
 import static org.folio.login.support.TestConstants.TENANT;
 import static org.folio.login.support.TestConstants.USERNAME;
+import static org.folio.login.support.TestConstants.USER_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.login.configuration.property.KeycloakUserIdCacheProperties;
 import org.folio.login.domain.model.KeycloakUser;
 import org.folio.login.integration.keycloak.KeycloakUserClient;
 import org.folio.spring.FolioExecutionContext;
@@ -22,7 +30,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +42,9 @@ class KeycloakUserServiceTest {
 
   @Mock private KeycloakUserClient client;
   @Mock private FolioExecutionContext context;
+  @Spy private KeycloakUserIdCache keycloakUserIdCache =
+    new KeycloakUserIdCache(keycloakUserIdCacheProperties(), new SimpleMeterRegistry());
+  @Spy private SyncTaskExecutor keycloakExecutor = new SyncTaskExecutor();
 
   @InjectMocks private KeycloakUserService keycloakUserService;
 
@@ -45,6 +60,75 @@ class KeycloakUserServiceTest {
     verify(client).findUsersWithAttrs(anyString(), eq(TENANT), anyString(), eq(true));
   }
 
+  @Test
+  void findKeycloakUserIdByUserId_positive_cached() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(client.findUsersWithAttrs(anyString(), eq(TENANT), anyString(), eq(true))).thenReturn(
+      List.of(createKeycloakResponse()));
+
+    var keycloakUserId = keycloakUserService.findKeycloakUserIdByUserId("userId", "anyToken");
+    var cachedKeycloakUserId = keycloakUserService.findKeycloakUserIdByUserId("userId", "anyToken");
+
+    assertEquals(KEYCLOAK_USER_ID, keycloakUserId);
+    assertEquals(KEYCLOAK_USER_ID, cachedKeycloakUserId);
+    verify(client).findUsersWithAttrs(anyString(), eq(TENANT), anyString(), eq(true));
+  }
+
+  @Test
+  void evictKeycloakUserId_positive() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(client.findUsersWithAttrs(anyString(), eq(TENANT), anyString(), eq(true))).thenReturn(
+      List.of(createKeycloakResponse()));
+
+    keycloakUserService.findKeycloakUserIdByUserId("userId", "anyToken");
+    keycloakUserService.evictKeycloakUserId("userId");
+    keycloakUserService.findKeycloakUserIdByUserId("userId", "anyToken");
+
+    verify(keycloakUserIdCache).invalidate(TENANT, "userId");
+    verify(client, times(2)).findUsersWithAttrs(anyString(), eq(TENANT), anyString(), eq(true));
+  }
+
+  @Test
+  void findFolioUserIds_positive() {
+    var nonFolioUserId = "00000000-0000-0000-0000-000000000000";
+    when(context.getTenantId()).thenReturn(TENANT);
+    var folioUser = createKeycloakResponse();
+    folioUser.setAttributes(Map.of(USER_ID_ATTR, List.of(USER_ID)));
+    when(client.getUser(ACCESS_TOKEN, TENANT, KEYCLOAK_USER_ID)).thenReturn(folioUser);
+    when(client.getUser(ACCESS_TOKEN, TENANT, nonFolioUserId)).thenReturn(new KeycloakUser());
+
+    var folioUserIds = keycloakUserService.findFolioUserIds(Set.of(KEYCLOAK_USER_ID, nonFolioUserId), ACCESS_TOKEN);
+    var cachedFolioUserIds = keycloakUserService.findFolioUserIds(Set.of(KEYCLOAK_USER_ID), ACCESS_TOKEN);
+
+    assertEquals(Map.of(KEYCLOAK_USER_ID, USER_ID), folioUserIds);
+    assertEquals(Map.of(KEYCLOAK_USER_ID, USER_ID), cachedFolioUserIds);
+    verify(client).getUser(ACCESS_TOKEN, TENANT, KEYCLOAK_USER_ID);
+    verify(client).getUser(ACCESS_TOKEN, TENANT, nonFolioUserId);
+  }
+
+  @Test
+  void findFolioUserIds_positive_nullAttributes() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    var keycloakUser = createKeycloakResponse();
+    keycloakUser.setAttributes(null);
+    when(client.getUser(ACCESS_TOKEN, TENANT, KEYCLOAK_USER_ID)).thenReturn(keycloakUser);
+
+    var folioUserIds = keycloakUserService.findFolioUserIds(Set.of(KEYCLOAK_USER_ID), ACCESS_TOKEN);
+
+    assertEquals(Map.of(), folioUserIds);
+  }
+
+  @Test
+  void findFolioUserIds_negative_keycloakError() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(client.getUser(ACCESS_TOKEN, TENANT, KEYCLOAK_USER_ID))
+      .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+    var keycloakUserIds = Set.of(KEYCLOAK_USER_ID);
+
+    assertThrows(HttpServerErrorException.class,
+      () -> keycloakUserService.findFolioUserIds(keycloakUserIds, ACCESS_TOKEN));
+  }
+
   @Test
   void findKeycloakUserIdByUserId_negative_returnsMoreThanOneUsers() {
     var userId = "userId";
@@ -99,6 +183,13 @@ class KeycloakUserServiceTest {
       "Keycloak user doesn't exist with the given 'username': " + USERNAME);
   }
 
+  private static KeycloakUserIdCacheProperties keycloakUserIdCacheProperties() {
+    var properties = new KeycloakUserIdCacheProperties();
+    properties.setTtl(Duration.ofMinutes(1));
+    properties.setMaxSize(10);
+    return properties;
+  }
+
   private static KeycloakUser createKeycloakResponse() {
     var keycloakUser = new KeycloakUser();
     keycloakUser.setId(KEYCLOAK_USER_ID);
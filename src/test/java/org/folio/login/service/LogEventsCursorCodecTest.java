@@ -0,0 +1,49 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.folio.login.domain.model.LogEventsCursor;
+import org.folio.login.domain.model.LogEventsCursor.EventPosition;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.ObjectMapper;
+
+@UnitTest
+class LogEventsCursorCodecTest {
+
+  private final LogEventsCursorCodec codec = new LogEventsCursorCodec(new ObjectMapper());
+
+  @Test
+  void encode_positive_decodedBack() {
+    var userPosition = EventPosition.of(1700000000000L, new LinkedHashSet<>(List.of("event-1", "event-2")));
+    var cursor = LogEventsCursor.of(userPosition, null, null);
+
+    var encoded = codec.encode(cursor);
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(codec.decode(encoded)).isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  void decode_positive_blankValue(String value) {
+    assertThat(codec.decode(value)).isEqualTo(new LogEventsCursor());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not a cursor", "bm90IGEganNvbg"})
+  void decode_negative_invalidValue(String value) {
+    assertThatThrownBy(() -> codec.decode(value))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid cursor value")
+      .extracting("key", "value")
+      .containsExactly("cursor", value);
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.login.domain.dto.LogEventType.FAILED_LOGIN_ATTEMPT;
+import static org.folio.login.domain.dto.LogEventType.PASSWORD_RESET;
+import static org.folio.login.domain.dto.LogEventType.SUCCESSFUL_LOGIN_ATTEMPT;
+
+import java.time.Instant;
+import org.folio.login.exception.RequestValidationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class LogEventsQueryParserTest {
+
+  private static final String USER_ID = "a8b58f29-3d8c-4bd0-b3cc-1c2d6a2e8c4a";
+
+  private final LogEventsQueryParser parser = new LogEventsQueryParser();
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"cql.allRecords=1", "cql.allRecords=1 sortby timestamp/sort.descending"})
+  void parse_positive_noFilters(String query) {
+    var filter = parser.parse(query);
+
+    assertThat(filter.getUserId()).isNull();
+    assertThat(filter.getEventTypes()).isNull();
+    assertThat(filter.getDateFrom()).isNull();
+    assertThat(filter.getDateTo()).isNull();
+    assertThat(filter.matchesNothing()).isFalse();
+  }
+
+  @Test
+  void parse_positive_allConditions() {
+    var query = "userId==" + USER_ID + " and (eventType==FAILED_LOGIN_ATTEMPT or eventType==SUCCESSFUL_LOGIN_ATTEMPT)"
+      + " and timestamp>=2024-01-01 and timestamp<2024-01-08";
+
+    var filter = parser.parse(query);
+
+    assertThat(filter.getUserId()).isEqualTo(USER_ID);
+    assertThat(filter.getEventTypes()).containsExactlyInAnyOrder(FAILED_LOGIN_ATTEMPT, SUCCESSFUL_LOGIN_ATTEMPT);
+    assertThat(filter.getDateFrom()).isEqualTo(epochMillis("2024-01-01T00:00:00Z"));
+    assertThat(filter.getDateTo()).isEqualTo(epochMillis("2024-01-07T23:59:59.999Z"));
+    assertThat(filter.matchesNothing()).isFalse();
+  }
+
+  @Test
+  void parse_positive_dateTimeBounds() {
+    var filter = parser.parse("timestamp>2024-01-01T10:00:00 and timestamp<=2024-01-01T12:00:00+02:00");
+
+    assertThat(filter.getDateFrom()).isEqualTo(epochMillis("2024-01-01T10:00:00.001Z"));
+    assertThat(filter.getDateTo()).isEqualTo(epochMillis("2024-01-01T10:00:00Z"));
+    assertThat(filter.matchesNothing()).isTrue();
+  }
+
+  @Test
+  void parse_positive_sortClauseIgnored() {
+    var filter = parser.parse("userId==" + USER_ID + " and eventType==PASSWORD_RESET sortby timestamp/sort.descending");
+
+    assertThat(filter.getUserId()).isEqualTo(USER_ID);
+    assertThat(filter.getEventTypes()).containsExactly(PASSWORD_RESET);
+  }
+
+  @Test
+  void parse_positive_exclusiveEventTypes() {
+    var filter = parser.parse("eventType==PASSWORD_RESET and eventType==FAILED_LOGIN_ATTEMPT");
+
+    assertThat(filter.getEventTypes()).isEmpty();
+    assertThat(filter.includes(PASSWORD_RESET)).isFalse();
+    assertThat(filter.matchesNothing()).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "userId==" + USER_ID + " or eventType==PASSWORD_RESET",
+    "username==admin",
+    "userId<>" + USER_ID,
+    "eventType==PASSWORD_RESET not userId==" + USER_ID,
+    "timestamp<>2024-01-01"
+  })
+  void parse_negative_unsupportedQuery(String query) {
+    assertThatThrownBy(() -> parser.parse(query))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessageStartingWith("Unsupported query")
+      .extracting("key", "value")
+      .containsExactly("query", query);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"userId==", "eventType==UNKNOWN", "timestamp>yesterday"})
+  void parse_negative_invalidQuery(String query) {
+    assertThatThrownBy(() -> parser.parse(query))
+      .isInstanceOf(RequestValidationException.class)
+      .extracting("key")
+      .isEqualTo("query");
+  }
+
+  private static long epochMillis(String value) {
+    return Instant.parse(value).toEpochMilli();
+  }
+}
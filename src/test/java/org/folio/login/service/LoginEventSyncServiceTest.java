@@ -0,0 +1,233 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.login.domain.dto.LogEventType.SUCCESSFUL_LOGIN_ATTEMPT;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.folio.login.configuration.property.LogEventsStoreProperties;
+import org.folio.login.domain.dto.LogEvent;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.entity.LoginEventSyncStateEntity;
+import org.folio.login.domain.model.LogEventsCursor.EventSource;
+import org.folio.login.domain.model.LogEventsFilter;
+import org.folio.login.domain.repository.LoginEventJdbcRepository;
+import org.folio.login.domain.repository.LoginEventSyncStateRepository;
+import org.folio.login.mapper.LoginEventMapper;
+import org.folio.login.service.LogEventsService.SourcedLogEvent;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LoginEventSyncServiceTest {
+
+  private static final long LAST_EVENT_TIME = 1_700_000_000_000L;
+
+  @InjectMocks private LoginEventSyncService loginEventSyncService;
+
+  @Mock private LogEventsService logEventsService;
+  @Mock private LoginEventMapper loginEventMapper;
+  @Mock private LoginEventJdbcRepository loginEventJdbcRepository;
+  @Mock private LoginEventSyncStateRepository syncStateRepository;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Spy private LogEventsStoreProperties logEventsStoreProperties = storeProperties();
+  @Spy private TransactionTemplate transactionTemplate = new TransactionTemplate(
+    mock(PlatformTransactionManager.class));
+
+  @Test
+  void synchronize_positive() {
+    var userEvents = List.of(sourcedEvent("event-3", LAST_EVENT_TIME + 3), sourcedEvent("event-2", LAST_EVENT_TIME + 2),
+      sourcedEvent("event-1", LAST_EVENT_TIME));
+    var insertedEvents = new ArrayList<List<LoginEventEntity>>();
+    mockLease(LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME), null);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.USER), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(pages(userEvents.subList(0, 2), userEvents.subList(2, 3)));
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.ADMIN), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(Collections.emptyIterator());
+    when(loginEventMapper.toEntity(any(LogEvent.class))).thenAnswer(inv -> new LoginEventEntity());
+    doAnswer(inv -> insertedEvents.add(List.copyOf(inv.getArgument(1))))
+      .when(loginEventJdbcRepository).insertAll(eq(TENANT), anyList());
+
+    loginEventSyncService.synchronize();
+
+    assertThat(insertedEvents).extracting(List::size).containsExactly(2, 1);
+    assertThat(insertedEvents.get(0).get(0).getId()).isNotEqualTo(insertedEvents.get(0).get(1).getId());
+    var filterCaptor = ArgumentCaptor.forClass(LogEventsFilter.class);
+    verify(logEventsService).loadKeycloakEventPages(eq(EventSource.USER), filterCaptor.capture(), eq(2));
+    assertThat(filterCaptor.getValue().getDateFrom()).isEqualTo(LAST_EVENT_TIME);
+    verify(syncStateRepository).save(LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME + 3));
+    verify(syncStateRepository).save(LoginEventSyncStateEntity.of("ADMIN", 0L));
+  }
+
+  @Test
+  void synchronize_positive_lockedByAnotherInstance() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(syncStateRepository.tryLock("login_event_sync:" + TENANT)).thenReturn(false);
+
+    loginEventSyncService.synchronize();
+
+    verifyNoInteractions(logEventsService, loginEventJdbcRepository);
+    verify(syncStateRepository, never()).save(any());
+    verify(syncStateRepository, never()).saveAll(anyIterable());
+  }
+
+  @Test
+  void synchronize_positive_leasedByAnotherInstance() {
+    var state = LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME);
+    state.setLeasedUntil(System.currentTimeMillis() + 60_000);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(syncStateRepository.tryLock("login_event_sync:" + TENANT)).thenReturn(true);
+    when(syncStateRepository.findById("USER")).thenReturn(Optional.of(state));
+    when(syncStateRepository.findById("ADMIN")).thenReturn(Optional.empty());
+
+    loginEventSyncService.synchronize();
+
+    verifyNoInteractions(logEventsService, loginEventJdbcRepository);
+    verify(syncStateRepository, never()).saveAll(anyIterable());
+  }
+
+  @Test
+  void synchronize_positive_limitReached() {
+    logEventsStoreProperties.setSyncMaxPages(1);
+    var userEvents = List.of(sourcedEvent("event-3", LAST_EVENT_TIME + 3), sourcedEvent("event-2", LAST_EVENT_TIME + 2),
+      sourcedEvent("event-1", LAST_EVENT_TIME + 1));
+    mockLease(LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME), null);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.USER), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(pages(userEvents.subList(0, 2), userEvents.subList(2, 3)));
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.ADMIN), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(Collections.emptyIterator());
+    when(loginEventMapper.toEntity(any(LogEvent.class))).thenAnswer(inv -> new LoginEventEntity());
+
+    loginEventSyncService.synchronize();
+
+    verify(loginEventJdbcRepository).insertAll(eq(TENANT), anyList());
+    var expectedState = LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME);
+    expectedState.setBackfillTo(LAST_EVENT_TIME + 2);
+    expectedState.setBackfillLastEventTime(LAST_EVENT_TIME + 3);
+    verify(syncStateRepository).save(expectedState);
+  }
+
+  @Test
+  void synchronize_positive_limitCountsKeycloakPages() {
+    logEventsStoreProperties.setSyncMaxPages(2);
+    var state = LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME);
+    state.setBackfillTo(LAST_EVENT_TIME + 10);
+    var userPages = pages(List.of(), List.of(), List.of(sourcedEvent("event-1", LAST_EVENT_TIME + 1)));
+    mockLease(state, null);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.USER), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(userPages);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.ADMIN), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(Collections.emptyIterator());
+
+    loginEventSyncService.synchronize();
+
+    assertThat(userPages.hasNext()).isTrue();
+    verifyNoInteractions(loginEventMapper, loginEventJdbcRepository);
+    var expectedState = LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME);
+    expectedState.setBackfillTo(LAST_EVENT_TIME + 9);
+    expectedState.setBackfillLastEventTime(0L);
+    verify(syncStateRepository).save(expectedState);
+  }
+
+  @Test
+  void synchronize_positive_backfillCompleted() {
+    var state = LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME);
+    state.setBackfillTo(LAST_EVENT_TIME + 2);
+    state.setBackfillLastEventTime(LAST_EVENT_TIME + 3);
+    mockLease(state, null);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.USER), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(pages(List.of(sourcedEvent("event-1", LAST_EVENT_TIME + 1))));
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.ADMIN), any(LogEventsFilter.class), eq(2)))
+      .thenReturn(Collections.emptyIterator());
+    when(loginEventMapper.toEntity(any(LogEvent.class))).thenAnswer(inv -> new LoginEventEntity());
+
+    loginEventSyncService.synchronize();
+
+    var filterCaptor = ArgumentCaptor.forClass(LogEventsFilter.class);
+    verify(logEventsService).loadKeycloakEventPages(eq(EventSource.USER), filterCaptor.capture(), eq(2));
+    assertThat(filterCaptor.getValue().getDateTo()).isEqualTo(LAST_EVENT_TIME + 2);
+    verify(syncStateRepository).save(LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME + 3));
+  }
+
+  @Test
+  void synchronize_negative_leaseReleasedIfLoadingFailed() {
+    var leasedStates = new ArrayList<List<LoginEventSyncStateEntity>>();
+    mockLease(LoginEventSyncStateEntity.of("USER", LAST_EVENT_TIME), leasedStates);
+    when(logEventsService.loadKeycloakEventPages(eq(EventSource.USER), any(LogEventsFilter.class), eq(2)))
+      .thenThrow(new IllegalStateException("Keycloak is unavailable"));
+
+    assertThatThrownBy(() -> loginEventSyncService.synchronize())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Keycloak is unavailable");
+
+    verifyNoInteractions(loginEventJdbcRepository);
+    verify(syncStateRepository, times(2)).saveAll(anyIterable());
+    assertThat(leasedStates).hasSize(2);
+    assertThat(leasedStates.get(0)).allSatisfy(state -> assertThat(state.getLeasedUntil()).isPositive());
+    assertThat(leasedStates.get(1)).extracting(LoginEventSyncStateEntity::getSource).containsExactly("USER", "ADMIN");
+    assertThat(leasedStates.get(1)).allSatisfy(state -> assertThat(state.getLeasedUntil()).isNull());
+  }
+
+  private void mockLease(LoginEventSyncStateEntity userState, List<List<LoginEventSyncStateEntity>> savedStates) {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(syncStateRepository.tryLock("login_event_sync:" + TENANT)).thenReturn(true);
+    when(syncStateRepository.findById("USER")).thenReturn(Optional.of(userState));
+    when(syncStateRepository.findById("ADMIN")).thenReturn(Optional.empty());
+    when(syncStateRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+      List<LoginEventSyncStateEntity> states = inv.getArgument(0);
+      if (savedStates != null) {
+        savedStates.add(states.stream().map(LoginEventSyncServiceTest::copy).toList());
+      }
+      return states;
+    });
+  }
+
+  @SafeVarargs
+  private static Iterator<List<SourcedLogEvent>> pages(List<SourcedLogEvent>... pages) {
+    return List.of(pages).iterator();
+  }
+
+  private static LoginEventSyncStateEntity copy(LoginEventSyncStateEntity state) {
+    var copy = LoginEventSyncStateEntity.of(state.getSource(), state.getLastEventTime());
+    copy.setLeasedUntil(state.getLeasedUntil());
+    return copy;
+  }
+
+  private static SourcedLogEvent sourcedEvent(String id, long time) {
+    var logEvent = new LogEvent().eventType(SUCCESSFUL_LOGIN_ATTEMPT).tenant(TENANT).timestamp(new Date(time));
+    return new SourcedLogEvent(EventSource.USER, id, time, logEvent);
+  }
+
+  private static LogEventsStoreProperties storeProperties() {
+    var properties = new LogEventsStoreProperties();
+    properties.setSyncBatchSize(2);
+    return properties;
+  }
+}
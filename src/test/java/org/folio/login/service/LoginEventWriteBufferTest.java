@@ -0,0 +1,162 @@
+package org.folio.login.service;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.folio.login.configuration.property.LogEventsStoreProperties;
+import org.folio.login.domain.entity.LoginEventEntity;
+import org.folio.login.domain.repository.LoginEventJdbcRepository;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LoginEventWriteBufferTest {
+
+  private static final String OTHER_TENANT = "other";
+
+  @Mock private LoginEventJdbcRepository loginEventJdbcRepository;
+
+  private final List<Integer> insertedBatchSizes = new CopyOnWriteArrayList<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LoginEventWriteBuffer writeBuffer;
+
+  @BeforeEach
+  void setUp() {
+    writeBuffer = new LoginEventWriteBuffer(loginEventJdbcRepository, storeProperties(true), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    writeBuffer.shutdown();
+    verifyNoMoreInteractions(loginEventJdbcRepository);
+  }
+
+  @Test
+  void flush_positive_groupedByTenantInBatches() {
+    var deletedId = UUID.randomUUID();
+    recordInsertedBatches();
+
+    writeBuffer.save(TENANT, loginEvent());
+    writeBuffer.delete(TENANT, deletedId);
+    writeBuffer.save(OTHER_TENANT, loginEvent());
+    writeBuffer.flush();
+
+    verify(loginEventJdbcRepository).insertAll(eq(TENANT), anyList());
+    verify(loginEventJdbcRepository).insertAll(eq(OTHER_TENANT), anyList());
+    verify(loginEventJdbcRepository).deleteAll(TENANT, List.of(deletedId));
+    assertThat(insertedBatchSizes).containsExactly(1, 1);
+  }
+
+  @Test
+  void flush_positive_eventDeletedAndSavedAgainIsReplaced() {
+    var event = loginEvent();
+    var savedAgain = loginEvent();
+    savedAgain.setId(event.getId());
+    savedAgain.setIp("127.0.0.1");
+
+    writeBuffer.save(TENANT, event);
+    writeBuffer.delete(TENANT, event.getId());
+    writeBuffer.save(TENANT, savedAgain);
+    writeBuffer.flush();
+
+    var inOrder = inOrder(loginEventJdbcRepository);
+    inOrder.verify(loginEventJdbcRepository).deleteAll(TENANT, List.of(event.getId()));
+    inOrder.verify(loginEventJdbcRepository).insertAll(TENANT, List.of(savedAgain));
+  }
+
+  @Test
+  void flush_positive_eventSavedAndDeletedIsNotInserted() {
+    var event = loginEvent();
+
+    writeBuffer.save(TENANT, event);
+    writeBuffer.delete(TENANT, event.getId());
+    writeBuffer.flush();
+
+    verify(loginEventJdbcRepository).deleteAll(TENANT, List.of(event.getId()));
+  }
+
+  @Test
+  void save_positive_flushedWhenBatchCollected() {
+    recordInsertedBatches();
+
+    writeBuffer.save(TENANT, loginEvent());
+    writeBuffer.save(TENANT, loginEvent());
+
+    await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(insertedBatchSizes).containsExactly(2));
+    verify(loginEventJdbcRepository).insertAll(eq(TENANT), anyList());
+  }
+
+  @Test
+  void flush_positive_failedBatchWrittenRowByRow() {
+    var invalidEvent = loginEvent();
+    var validEvent = loginEvent();
+    doThrow(new DataIntegrityViolationException("null value in column \"event_type\""))
+      .when(loginEventJdbcRepository).insertAll(TENANT, List.of(invalidEvent, validEvent));
+    doThrow(new DataIntegrityViolationException("null value in column \"event_type\""))
+      .when(loginEventJdbcRepository).insertAll(TENANT, List.of(invalidEvent));
+
+    writeBuffer.save(TENANT, invalidEvent);
+    writeBuffer.save(TENANT, validEvent);
+    writeBuffer.flush();
+
+    await().atMost(ofSeconds(5))
+      .untilAsserted(() -> verify(loginEventJdbcRepository).insertAll(TENANT, List.of(validEvent)));
+    verify(loginEventJdbcRepository).insertAll(TENANT, List.of(invalidEvent, validEvent));
+    verify(loginEventJdbcRepository).insertAll(TENANT, List.of(invalidEvent));
+    assertThat(meterRegistry.get(LoginEventWriteBuffer.DROPPED_WRITES).tag("operation", "insert").counter().count())
+      .isEqualTo(1.0);
+  }
+
+  @Test
+  void save_positive_storeDisabled() {
+    writeBuffer.shutdown();
+    writeBuffer = new LoginEventWriteBuffer(loginEventJdbcRepository, storeProperties(false), meterRegistry);
+    var event = loginEvent();
+
+    writeBuffer.save(TENANT, event);
+
+    verify(loginEventJdbcRepository).insertAll(TENANT, List.of(event));
+  }
+
+  private void recordInsertedBatches() {
+    doAnswer(inv -> insertedBatchSizes.add(inv.<List<?>>getArgument(1).size()))
+      .when(loginEventJdbcRepository).insertAll(anyString(), anyList());
+  }
+
+  private static LogEventsStoreProperties storeProperties(boolean enabled) {
+    var properties = new LogEventsStoreProperties();
+    properties.setEnabled(enabled);
+    properties.setWriteBatchSize(2);
+    properties.setWriteBufferCapacity(3);
+    properties.setWriteFlushInterval(Duration.ofHours(1));
+    return properties;
+  }
+
+  private static LoginEventEntity loginEvent() {
+    var entity = new LoginEventEntity();
+    entity.setId(UUID.randomUUID());
+    return entity;
+  }
+}
@@ -7,22 +7,31 @@ import static org.folio.login.support.TestConstants.ACCESS_TOKEN_EXPIRATION_DATE
 import static org.folio.login.support.TestConstants.AUTH_CODE;
 import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
 import static org.folio.login.support.TestConstants.REFRESH_TOKEN_EXPIRATION_DATE;
+import static org.folio.login.support.TestConstants.TENANT;
 import static org.folio.login.support.TestValues.keycloakAuthentication;
 import static org.folio.login.support.TestValues.loginCredentials;
+import static org.folio.login.support.TestValues.parsedRefreshToken;
 import static org.folio.login.support.TestValues.tokenContainer;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.folio.login.configuration.property.TokenRefreshCacheProperties;
 import org.folio.login.exception.TokenLogoutException;
+import org.folio.login.exception.TokenParsingException;
 import org.folio.login.exception.TokenRefreshException;
+import org.folio.login.exception.TokenValidationException;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -31,6 +40,12 @@ class LoginServiceTest {
 
   @Mock private KeycloakService keycloakService;
   @Mock private JwtTokenParser tokenParser;
+  @Mock private RefreshTokenValidator refreshTokenValidator;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Spy private LoginStageMetrics stageMetrics =
+    new LoginStageMetrics(new SimpleMeterRegistry(), mock(FolioExecutionContext.class));
+  @Spy private TokenRefreshCoalescer tokenRefreshCoalescer =
+    new TokenRefreshCoalescer(new TokenRefreshCacheProperties(), new SimpleMeterRegistry());
 
   @InjectMocks private LoginService loginService;
 
@@ -64,8 +79,12 @@ class LoginServiceTest {
 
   @Test
   void logout_positive() {
+    var parsedToken = parsedRefreshToken();
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedToken);
+
     loginService.logout(REFRESH_TOKEN);
-    verify(keycloakService).logout(REFRESH_TOKEN);
+
+    verify(keycloakService).logout(parsedToken);
   }
 
   @Test
@@ -77,6 +96,7 @@ class LoginServiceTest {
 
   @Test
   void logout_negative_kcError() {
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedRefreshToken());
     doThrow(new RuntimeException("Failure")).when(keycloakService).logout(any());
 
     assertThatThrownBy(() -> loginService.logout(REFRESH_TOKEN))
@@ -84,6 +104,30 @@ class LoginServiceTest {
       .hasMessage("Authorization server unable to process token logout request");
   }
 
+  @Test
+  void logout_negative_invalidToken() {
+    when(tokenParser.parse("invalid")).thenThrow(new TokenParsingException("Invalid token."));
+
+    assertThatThrownBy(() -> loginService.logout("invalid"))
+      .isInstanceOf(TokenLogoutException.class)
+      .hasMessage("Authorization server unable to process token logout request");
+    verifyNoInteractions(keycloakService);
+  }
+
+  @Test
+  void logout_negative_expiredToken() {
+    var parsedToken = parsedRefreshToken();
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedToken);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    doThrow(new TokenValidationException("Invalid refresh token: expired"))
+      .when(refreshTokenValidator).validate(parsedToken, "logout", TENANT);
+
+    assertThatThrownBy(() -> loginService.logout(REFRESH_TOKEN))
+      .isInstanceOf(TokenLogoutException.class)
+      .hasMessage("Authorization server unable to process token logout request");
+    verifyNoInteractions(keycloakService);
+  }
+
   @Test
   void logoutAll_positive() {
     loginService.logoutAll();
@@ -101,19 +145,36 @@ class LoginServiceTest {
 
   @Test
   void refreshToken_positive() {
+    var parsedToken = parsedRefreshToken();
     prepareTokenParserMocks();
-    when(keycloakService.refreshToken(REFRESH_TOKEN)).thenReturn(keycloakAuthentication());
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedToken);
+    when(keycloakService.refreshToken(parsedToken)).thenReturn(keycloakAuthentication());
 
     var response = loginService.refreshToken(REFRESH_TOKEN);
 
     var expected = tokenContainer();
     assertThat(response).isEqualTo(expected);
 
-    verify(keycloakService).refreshToken(REFRESH_TOKEN);
+    verify(keycloakService).refreshToken(parsedToken);
+  }
+
+  @Test
+  void refreshToken_positive_duplicateRequest() {
+    var parsedToken = parsedRefreshToken();
+    prepareTokenParserMocks();
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedToken);
+    when(keycloakService.refreshToken(parsedToken)).thenReturn(keycloakAuthentication());
+
+    var first = loginService.refreshToken(REFRESH_TOKEN);
+    var second = loginService.refreshToken(REFRESH_TOKEN);
+
+    assertThat(first).isEqualTo(tokenContainer()).isEqualTo(second);
+    verify(keycloakService).refreshToken(parsedToken);
   }
 
   @Test
   void refreshToken_negative_kcError() {
+    when(tokenParser.parse("invalid")).thenReturn(parsedRefreshToken("invalid"));
     when(keycloakService.refreshToken(any())).thenThrow(new RuntimeException("KC error"));
 
     assertThatThrownBy(() -> loginService.refreshToken("invalid"))
@@ -121,6 +182,30 @@ class LoginServiceTest {
       .hasMessage("Authorization server unable to process token refresh request");
   }
 
+  @Test
+  void refreshToken_negative_expiredToken() {
+    var parsedToken = parsedRefreshToken();
+    when(tokenParser.parse(REFRESH_TOKEN)).thenReturn(parsedToken);
+    doThrow(new TokenValidationException("Invalid refresh token: expired"))
+      .when(refreshTokenValidator).validate(parsedToken, "refresh");
+
+    assertThatThrownBy(() -> loginService.refreshToken(REFRESH_TOKEN))
+      .isInstanceOf(TokenRefreshException.class)
+      .hasMessage("Authorization server unable to process token refresh request")
+      .hasCauseInstanceOf(TokenValidationException.class);
+    verifyNoInteractions(keycloakService);
+  }
+
+  @Test
+  void refreshToken_negative_invalidToken() {
+    when(tokenParser.parse("invalid")).thenThrow(new TokenParsingException("Invalid token."));
+
+    assertThatThrownBy(() -> loginService.refreshToken("invalid"))
+      .isInstanceOf(TokenRefreshException.class)
+      .hasMessage("Authorization server unable to process token refresh request");
+    verifyNoInteractions(keycloakService);
+  }
+
   private void prepareTokenParserMocks() {
     when(tokenParser.parseExpirationDate(ACCESS_TOKEN)).thenReturn(ACCESS_TOKEN_EXPIRATION_DATE);
     when(tokenParser.parseExpirationDate(REFRESH_TOKEN)).thenReturn(REFRESH_TOKEN_EXPIRATION_DATE);
@@ -0,0 +1,78 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.login.service.LoginStageMetrics.KEYCLOAK_TOKEN;
+import static org.folio.login.service.LoginStageMetrics.TIMER_NAME;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LoginStageMetricsTest {
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LoginStageMetrics stageMetrics;
+
+  @BeforeEach
+  void setUp() {
+    stageMetrics = new LoginStageMetrics(meterRegistry, folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void record_positive() {
+    var actual = stageMetrics.record(KEYCLOAK_TOKEN, () -> "result");
+
+    assertThat(actual).isEqualTo("result");
+    assertThat(timerCount("success")).isEqualTo(1);
+  }
+
+  @Test
+  void recordRun_positive_stageTimingsCollected() {
+    var request = new MockHttpServletRequest();
+    var timings = new StageTimings();
+    request.setAttribute(StageTimings.REQUEST_ATTRIBUTE, timings);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    stageMetrics.recordRun(KEYCLOAK_TOKEN, () -> {});
+
+    assertThat(timings.toHeaderValue()).matches("keycloak-token;dur=\\d+\\.\\d{3}");
+  }
+
+  @Test
+  void record_negative_actionFailed() {
+    assertThatThrownBy(() -> stageMetrics.record(KEYCLOAK_TOKEN, () -> {
+      throw new IllegalStateException("Keycloak error");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(timerCount("error")).isEqualTo(1);
+  }
+
+  private long timerCount(String outcome) {
+    var timer = meterRegistry.find(TIMER_NAME)
+      .tags("stage", KEYCLOAK_TOKEN, "tenant", TENANT, "outcome", outcome)
+      .timer();
+    return timer != null ? timer.count() : 0;
+  }
+}
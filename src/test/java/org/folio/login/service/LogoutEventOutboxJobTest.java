@@ -0,0 +1,57 @@
+package org.folio.login.service;
+
+import static org.folio.login.domain.repository.LogoutEventOutboxRepository.OUTBOX_TABLE;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.login.configuration.property.LogoutEventOutboxProperties;
+import org.folio.login.integration.kafka.LogoutEventOutboxRelay;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LogoutEventOutboxJobTest {
+
+  @Mock private LogoutEventOutboxRelay outboxRelay;
+  @Mock private TenantDiscoveryService tenantDiscoveryService;
+  @Mock private FolioModuleMetadata folioModuleMetadata;
+
+  private LogoutEventOutboxJob outboxJob;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new LogoutEventOutboxProperties();
+    properties.setRelayBatchSize(10);
+    outboxJob = new LogoutEventOutboxJob(outboxRelay, properties, tenantDiscoveryService, folioModuleMetadata);
+  }
+
+  @Test
+  void relayTenants_positive_fullBatchesRelayedUntilDrained() {
+    when(tenantDiscoveryService.getTenants(OUTBOX_TABLE)).thenReturn(List.of("tenant1"));
+    when(outboxRelay.relayBatch("tenant1")).thenReturn(10, 10, 3);
+
+    outboxJob.relayTenants();
+
+    verify(outboxRelay, times(3)).relayBatch("tenant1");
+  }
+
+  @Test
+  void relayTenants_positive_failedTenantDoesNotStopOthers() {
+    when(tenantDiscoveryService.getTenants(OUTBOX_TABLE)).thenReturn(List.of("tenant1", "tenant2"));
+    when(outboxRelay.relayBatch("tenant1")).thenThrow(new IllegalStateException("Kafka is unavailable"));
+    when(outboxRelay.relayBatch("tenant2")).thenReturn(0);
+
+    outboxJob.relayTenants();
+
+    verify(outboxRelay).relayBatch("tenant1");
+    verify(outboxRelay).relayBatch("tenant2");
+  }
+}
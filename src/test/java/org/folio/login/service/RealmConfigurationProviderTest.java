@@ -1,103 +1,221 @@
 package org.folio.login.service;
 
-import static java.util.Collections.singletonList;
-import static java.util.Objects.requireNonNull;
-import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.folio.login.service.RealmConfigurationProvider.LOAD_TIMER_NAME;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Map;
-import java.util.Optional;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.login.configuration.property.RealmConfigurationCacheProperties;
 import org.folio.login.domain.model.KeycloakRealmConfiguration;
 import org.folio.login.integration.keycloak.config.KeycloakProperties;
-import org.folio.login.service.RealmConfigurationProviderTest.TestContextConfiguration;
-import org.folio.spring.DefaultFolioExecutionContext;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
 import org.folio.tools.store.SecureStore;
 import org.folio.tools.store.exception.SecureStoreServiceException;
 import org.folio.tools.store.properties.SecureStoreProperties;
-import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.cache.Cache.ValueWrapper;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.context.annotation.Bean;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
-@SpringBootTest(classes = {RealmConfigurationProvider.class, TestContextConfiguration.class})
+@ExtendWith(MockitoExtension.class)
 class RealmConfigurationProviderTest {
 
   private static final String KEY = "test_test_tenant_test_tenant-app";
   private static final String TENANT_ID = "test_tenant";
-  private static final String CACHE_NAME = "keycloak-configuration";
   private static final String SECRET = "kc-client-secret";
+  private static final String NEW_SECRET = "kc-client-secret-new";
+
+  @Mock private SecureStore secureStore;
+  @Mock private SecureStoreProperties secureStoreProperties;
+  @Mock private KeycloakProperties keycloakProperties;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final AtomicLong time = new AtomicLong();
+  private final Queue<Runnable> refreshTasks = new ArrayDeque<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RealmConfigurationProvider realmConfigurationProvider;
+
+  @BeforeEach
+  void setUp() {
+    var cacheProperties = new RealmConfigurationCacheProperties();
+    cacheProperties.setTtl(Duration.ofMinutes(60));
+    cacheProperties.setRefreshAfter(Duration.ofMinutes(30));
+    cacheProperties.setMaxStaleness(Duration.ofHours(24));
+    realmConfigurationProvider = new RealmConfigurationProvider(secureStore, folioExecutionContext,
+      keycloakProperties, secureStoreProperties, cacheProperties, meterRegistry, refreshTasks::add, time::get);
 
-  @Autowired private RealmConfigurationProvider realmConfigurationProvider;
-  @Autowired private CacheManager cacheManager;
-  @MockitoBean private SecureStore secureStore;
-  @MockitoBean private SecureStoreProperties secureStoreProperties;
-  @MockitoBean private KeycloakProperties keycloakProperties;
-
-  @AfterEach
-  void tearDown() {
-    cacheManager.getCacheNames().forEach(cacheName -> requireNonNull(cacheManager.getCache(cacheName)).clear());
+    when(keycloakProperties.getClientSuffix()).thenReturn("-app");
+    when(secureStoreProperties.getEnvironment()).thenReturn("test");
   }
 
   @Test
   void getRealmConfiguration_positive() {
-    when(keycloakProperties.getClientSuffix()).thenReturn("-app");
-    when(secureStoreProperties.getEnvironment()).thenReturn("test");
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(secureStore.get(KEY)).thenReturn(SECRET);
 
     var actual = realmConfigurationProvider.getRealmConfiguration();
+    var cached = realmConfigurationProvider.getRealmConfiguration();
 
-    var expectedValue = new KeycloakRealmConfiguration()
-      .clientId("test_tenant-app")
-      .clientSecret("kc-client-secret");
-
-    assertThat(actual).isEqualTo(expectedValue);
-    assertThat(getCachedValue()).isPresent().get().isEqualTo(expectedValue);
+    assertThat(actual).isEqualTo(realmConfiguration(SECRET)).isEqualTo(cached);
+    verify(secureStore).get(KEY);
+    assertThat(loadTimerCount("load", "success")).isEqualTo(1);
   }
 
   @Test
   void getRealmConfiguration_clientSecretNotFound() {
-    when(keycloakProperties.getClientSuffix()).thenReturn("-app");
-    when(secureStoreProperties.getEnvironment()).thenReturn("test");
     when(secureStore.get(KEY)).thenThrow(new SecureStoreServiceException("not found"));
 
-    assertThatThrownBy(() -> realmConfigurationProvider.getRealmConfiguration())
+    assertThatThrownBy(() -> realmConfigurationProvider.getRealmConfiguration(TENANT_ID))
       .isInstanceOf(IllegalStateException.class)
       .hasMessage("Failed to get value from secure store [tenantId: test_tenant, clientId: test_tenant-app]");
+    assertThatThrownBy(() -> realmConfigurationProvider.getRealmConfiguration(TENANT_ID))
+      .isInstanceOf(IllegalStateException.class);
 
-    assertThat(getCachedValue()).isEmpty();
+    verify(secureStore, times(2)).get(KEY);
+    assertThat(loadTimerCount("load", "error")).isEqualTo(2);
+  }
+
+  @Test
+  void getRealmConfiguration_positive_refreshedInBackground() {
+    when(secureStore.get(KEY)).thenReturn(SECRET, NEW_SECRET);
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(31));
+    var stale = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+    var refreshed = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    assertThat(stale).isEqualTo(realmConfiguration(SECRET));
+    assertThat(refreshed).isEqualTo(realmConfiguration(NEW_SECRET));
+    assertThat(loadTimerCount("refresh", "success")).isEqualTo(1);
+  }
+
+  @Test
+  void getRealmConfiguration_positive_cachedValueServedIfRefreshFailed() {
+    when(secureStore.get(KEY)).thenReturn(SECRET).thenThrow(new SecureStoreServiceException("unavailable"));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(45));
+    var first = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+    var second = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+
+    assertThat(first).isEqualTo(realmConfiguration(SECRET)).isEqualTo(second);
+    assertThat(loadTimerCount("refresh", "error")).isEqualTo(1);
+  }
+
+  @Test
+  void getRealmConfiguration_positive_lastLoadedValueServedAfterTtlIfRefreshFailed() {
+    when(secureStore.get(KEY)).thenReturn(SECRET).thenThrow(new SecureStoreServiceException("unavailable"));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(31));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+    advanceTime(Duration.ofHours(2));
+    var actual = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+
+    assertThat(actual).isEqualTo(realmConfiguration(SECRET));
+    assertThat(loadTimerCount("refresh", "error")).isEqualTo(2);
+    assertThat(loadTimerCount("load", "error")).isZero();
   }
 
-  private Optional<Object> getCachedValue() {
-    return ofNullable(cacheManager.getCache(CACHE_NAME))
-      .map(cache -> cache.get(TENANT_ID))
-      .map(ValueWrapper::get);
+  @Test
+  void getRealmConfiguration_positive_refreshedAfterFailedRefresh() {
+    when(secureStore.get(KEY)).thenReturn(SECRET)
+      .thenThrow(new SecureStoreServiceException("unavailable"))
+      .thenReturn(NEW_SECRET);
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(31));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+    advanceTime(Duration.ofMinutes(31));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+    runRefreshTasks();
+    advanceTime(Duration.ofMinutes(50));
+    var actual = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    assertThat(actual).isEqualTo(realmConfiguration(NEW_SECRET));
+    assertThat(loadTimerCount("refresh", "success")).isEqualTo(1);
+    assertThat(loadTimerCount("load", "success")).isEqualTo(1);
   }
 
-  @EnableCaching
-  @TestConfiguration
-  static class TestContextConfiguration {
+  @Test
+  void getRealmConfiguration_negative_expiredAndRefreshFailed() {
+    when(secureStore.get(KEY)).thenReturn(SECRET).thenThrow(new SecureStoreServiceException("unavailable"));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(61));
+
+    assertThatThrownBy(() -> realmConfigurationProvider.getRealmConfiguration(TENANT_ID))
+      .isInstanceOf(IllegalStateException.class);
+  }
 
-    @Bean
-    CacheManager cacheManager() {
-      return new ConcurrentMapCacheManager(CACHE_NAME);
+  @Test
+  void getRealmConfiguration_negative_maxStalenessExceeded() {
+    when(secureStore.get(KEY)).thenReturn(SECRET).thenThrow(new SecureStoreServiceException("unavailable"));
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    for (int i = 0; i < 48; i++) {
+      advanceTime(Duration.ofMinutes(31));
+      realmConfigurationProvider.refreshStale();
+      runRefreshTasks();
     }
 
-    @Bean
-    FolioExecutionContext folioExecutionContext() {
-      return new DefaultFolioExecutionContext(null, Map.of(TENANT, singletonList(TENANT_ID)));
+    assertThatThrownBy(() -> realmConfigurationProvider.getRealmConfiguration(TENANT_ID))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(loadTimerCount("load", "error")).isEqualTo(1);
+  }
+
+  @Test
+  void refreshStale_positive() {
+    when(secureStore.get(KEY)).thenReturn(SECRET, NEW_SECRET);
+    realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    advanceTime(Duration.ofMinutes(10));
+    realmConfigurationProvider.refreshStale();
+    runRefreshTasks();
+    assertThat(loadTimerCount("refresh", "success")).isZero();
+
+    advanceTime(Duration.ofMinutes(21));
+    realmConfigurationProvider.refreshStale();
+    runRefreshTasks();
+    advanceTime(Duration.ofMinutes(40));
+    var actual = realmConfigurationProvider.getRealmConfiguration(TENANT_ID);
+
+    assertThat(actual).isEqualTo(realmConfiguration(NEW_SECRET));
+    assertThat(loadTimerCount("refresh", "success")).isEqualTo(1);
+  }
+
+  private void runRefreshTasks() {
+    while (!refreshTasks.isEmpty()) {
+      refreshTasks.poll().run();
     }
   }
+
+  private void advanceTime(Duration duration) {
+    time.addAndGet(duration.toNanos());
+  }
+
+  private long loadTimerCount(String operation, String outcome) {
+    var timer = meterRegistry.find(LOAD_TIMER_NAME).tags("operation", operation, "outcome", outcome).timer();
+    return timer != null ? timer.count() : 0;
+  }
+
+  private static KeycloakRealmConfiguration realmConfiguration(String secret) {
+    return new KeycloakRealmConfiguration().clientId("test_tenant-app").clientSecret(secret);
+  }
 }
@@ -0,0 +1,144 @@
+package org.folio.login.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.login.service.RefreshTokenValidator.REJECTED_COUNTER_NAME;
+import static org.folio.login.support.TestConstants.TENANT;
+import static org.folio.login.support.TestValues.parsedRefreshToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.folio.login.domain.model.ParsedToken;
+import org.folio.login.exception.TokenValidationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@UnitTest
+class RefreshTokenValidatorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-05T08:00:00Z");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RefreshTokenValidator validator =
+    new RefreshTokenValidator(meterRegistry, null, Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void validate_positive() {
+    var token = refreshToken(claims -> claims.setExpiration(NOW.getEpochSecond() + 60));
+
+    validator.validate(token, "refresh");
+
+    assertThat(meterRegistry.find(REJECTED_COUNTER_NAME).counter()).isNull();
+  }
+
+  @Test
+  void validate_positive_offlineTokenWithoutExpiration() {
+    var token = refreshToken(claims -> claims.setType("Offline"));
+
+    validator.validate(token, "refresh");
+
+    assertThat(meterRegistry.find(REJECTED_COUNTER_NAME).counter()).isNull();
+  }
+
+  @Test
+  void validate_positive_requestTenant() {
+    var token = refreshToken(claims -> claims.setExpiration(NOW.getEpochSecond() + 60));
+
+    validator.validate(token, "logout", TENANT);
+
+    assertThat(meterRegistry.find(REJECTED_COUNTER_NAME).counter()).isNull();
+  }
+
+  @Test
+  void validate_negative_anotherRealm() {
+    var token = refreshToken(claims -> claims.setExpiration(NOW.getEpochSecond() + 60));
+
+    assertThatThrownBy(() -> validator.validate(token, "logout", "another"))
+      .isInstanceOf(TokenValidationException.class)
+      .hasMessage("Invalid refresh token: realm");
+
+    var counter = meterRegistry.find(REJECTED_COUNTER_NAME).tags("operation", "logout", "reason", "realm").counter();
+    assertThat(counter).isNotNull();
+    assertThat(counter.count()).isEqualTo(1d);
+  }
+
+  @Test
+  void validate_positive_issuerUrl() {
+    var issuerUrlValidator =
+      new RefreshTokenValidator(meterRegistry, "http://localhost:8081/", Clock.fixed(NOW, ZoneOffset.UTC));
+    var token = refreshToken(claims -> claims.setExpiration(NOW.getEpochSecond() + 60));
+
+    issuerUrlValidator.validate(token, "refresh");
+
+    assertThat(meterRegistry.find(REJECTED_COUNTER_NAME).counter()).isNull();
+  }
+
+  @Test
+  void validate_negative_anotherIssuerUrl() {
+    var issuerUrlValidator =
+      new RefreshTokenValidator(meterRegistry, "https://keycloak.example.org", Clock.fixed(NOW, ZoneOffset.UTC));
+    var token = refreshToken(claims -> claims.setExpiration(NOW.getEpochSecond() + 60));
+
+    assertThatThrownBy(() -> issuerUrlValidator.validate(token, "refresh"))
+      .isInstanceOf(TokenValidationException.class)
+      .hasMessage("Invalid refresh token: issuer-url");
+
+    var counter = meterRegistry.find(REJECTED_COUNTER_NAME).tags("operation", "refresh", "reason", "issuer-url")
+      .counter();
+    assertThat(counter).isNotNull();
+    assertThat(counter.count()).isEqualTo(1d);
+  }
+
+  @MethodSource("invalidTokensDataProvider")
+  @ParameterizedTest(name = "[{index}] reason = {1}")
+  void validate_negative(ParsedToken token, String reason) {
+    assertThatThrownBy(() -> validator.validate(token, "logout"))
+      .isInstanceOf(TokenValidationException.class)
+      .hasMessage("Invalid refresh token: " + reason);
+
+    var counter = meterRegistry.find(REJECTED_COUNTER_NAME).tags("operation", "logout", "reason", reason).counter();
+    assertThat(counter).isNotNull();
+    assertThat(counter.count()).isEqualTo(1d);
+  }
+
+  private static Stream<Arguments> invalidTokensDataProvider() {
+    var expiration = NOW.getEpochSecond() + 60;
+    return Stream.of(
+      arguments(claims -> claims.setExpiration(NOW.getEpochSecond()), "expired"),
+      arguments(claims -> claims.setExpiration(null), "expiration"),
+      arguments(claims -> {
+        claims.setType("Bearer");
+        claims.setExpiration(expiration);
+      }, "type"),
+      arguments(claims -> {
+        claims.setType(null);
+        claims.setExpiration(expiration);
+      }, "type"),
+      arguments(claims -> {
+        claims.setIssuer(null);
+        claims.setExpiration(expiration);
+      }, "issuer"),
+      arguments(claims -> {
+        claims.setIssuer("http://localhost:8081/realms/");
+        claims.setExpiration(expiration);
+      }, "issuer")
+    );
+  }
+
+  private static Arguments arguments(Consumer<ParsedToken> customizer, String reason) {
+    return Arguments.of(refreshToken(customizer), reason);
+  }
+
+  private static ParsedToken refreshToken(Consumer<ParsedToken> customizer) {
+    var token = parsedRefreshToken();
+    customizer.accept(token);
+    return token;
+  }
+}
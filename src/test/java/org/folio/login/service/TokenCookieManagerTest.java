@@ -5,16 +5,20 @@ import static org.folio.login.support.TestConstants.ACCESS_TOKEN;
 import static org.folio.login.support.TestConstants.EXPIRES_IN;
 import static org.folio.login.support.TestConstants.REFRESH_EXPIRES_IN;
 import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.SET_COOKIE;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.folio.login.configuration.property.CookieProperties;
 import org.folio.login.support.TestValues;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -23,6 +27,8 @@ class TokenCookieManagerTest {
 
   @InjectMocks private TokenCookieHeaderManager service;
   @Mock private CookieProperties properties;
+  @Spy private LoginStageMetrics stageMetrics =
+    new LoginStageMetrics(new SimpleMeterRegistry(), mock(FolioExecutionContext.class));
 
   @Test
   void createHttpOnlyHeaders_positive() {
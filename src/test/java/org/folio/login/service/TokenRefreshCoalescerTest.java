@@ -0,0 +1,145 @@
+package org.folio.login.service;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
+import static org.folio.login.support.TestValues.keycloakAuthentication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.login.configuration.property.TokenRefreshCacheProperties;
+import org.folio.login.domain.model.KeycloakAuthentication;
+import org.folio.login.exception.TokenRefreshException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TokenRefreshCoalescerTest {
+
+  private final AtomicInteger refreshCount = new AtomicInteger();
+
+  @Test
+  void refresh_positive_concurrentRequests() throws Exception {
+    var coalescer = coalescer(Duration.ofSeconds(2));
+    var refreshStarted = new CountDownLatch(1);
+    var refreshReleased = new CountDownLatch(1);
+
+    var first = CompletableFuture.supplyAsync(() -> coalescer.refresh(REFRESH_TOKEN, () -> {
+      refreshStarted.countDown();
+      awaitLatch(refreshReleased);
+      return refresh();
+    }));
+    assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    var second = CompletableFuture.supplyAsync(() -> coalescer.refresh(REFRESH_TOKEN, this::refresh));
+    refreshReleased.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(keycloakAuthentication()).isSameAs(second.get());
+    assertThat(refreshCount).hasValue(1);
+  }
+
+  @Test
+  void refresh_positive_differentTokens() {
+    var coalescer = coalescer(Duration.ofSeconds(2));
+
+    coalescer.refresh(REFRESH_TOKEN, this::refresh);
+    coalescer.refresh("other-token", this::refresh);
+
+    assertThat(refreshCount).hasValue(2);
+  }
+
+  @Test
+  void refresh_positive_disabled() {
+    var coalescer = coalescer(Duration.ZERO);
+
+    coalescer.refresh(REFRESH_TOKEN, this::refresh);
+    coalescer.refresh(REFRESH_TOKEN, this::refresh);
+
+    assertThat(refreshCount).hasValue(2);
+  }
+
+  @Test
+  void refresh_negative_failedRefreshIsNotCached() {
+    var coalescer = coalescer(Duration.ofSeconds(2));
+
+    assertThatThrownBy(() -> coalescer.refresh(REFRESH_TOKEN, () -> {
+      throw new IllegalStateException("Keycloak error");
+    })).isInstanceOf(IllegalStateException.class).hasMessage("Keycloak error");
+    var actual = coalescer.refresh(REFRESH_TOKEN, this::refresh);
+
+    assertThat(actual).isEqualTo(keycloakAuthentication());
+    assertThat(refreshCount).hasValue(1);
+  }
+
+  @Test
+  void refresh_negative_errorReleasesWaitingRequests() throws Exception {
+    var coalescer = coalescer(Duration.ofSeconds(2));
+    var refreshStarted = new CountDownLatch(1);
+    var refreshReleased = new CountDownLatch(1);
+
+    var first = CompletableFuture.runAsync(() -> coalescer.refresh(REFRESH_TOKEN, () -> {
+      refreshStarted.countDown();
+      awaitLatch(refreshReleased);
+      throw new AssertionError("Unexpected refresh");
+    }));
+    assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    var second = new FutureTask<>(() -> coalescer.refresh(REFRESH_TOKEN, this::refresh));
+    var secondThread = Thread.ofPlatform().start(second);
+    await().atMost(ofSeconds(5)).until(() -> secondThread.getState() == Thread.State.TIMED_WAITING);
+    refreshReleased.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+      .hasCauseInstanceOf(TokenRefreshException.class)
+      .hasRootCauseInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  void refresh_negative_waitTimeout() throws Exception {
+    var properties = new TokenRefreshCacheProperties();
+    properties.setWaitTimeout(Duration.ofMillis(50));
+    var coalescer = new TokenRefreshCoalescer(properties, new SimpleMeterRegistry());
+    var refreshStarted = new CountDownLatch(1);
+    var refreshReleased = new CountDownLatch(1);
+
+    var first = CompletableFuture.supplyAsync(() -> coalescer.refresh(REFRESH_TOKEN, () -> {
+      refreshStarted.countDown();
+      awaitLatch(refreshReleased);
+      return refresh();
+    }));
+    assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> coalescer.refresh(REFRESH_TOKEN, this::refresh))
+      .isInstanceOf(TokenRefreshException.class)
+      .hasMessageStartingWith("Token refresh in progress is not completed");
+    refreshReleased.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(keycloakAuthentication());
+    assertThat(refreshCount).hasValue(1);
+  }
+
+  private KeycloakAuthentication refresh() {
+    refreshCount.incrementAndGet();
+    return keycloakAuthentication();
+  }
+
+  private static TokenRefreshCoalescer coalescer(Duration ttl) {
+    var properties = new TokenRefreshCacheProperties();
+    properties.setTtl(ttl);
+    return new TokenRefreshCoalescer(properties, new SimpleMeterRegistry());
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
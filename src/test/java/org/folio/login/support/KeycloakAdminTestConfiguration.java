@@ -1,41 +1,48 @@
-package org.folio.login.integration.keycloak.config;
+package org.folio.login.support;
 
 import static jakarta.ws.rs.client.ClientBuilder.newBuilder;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.stripToNull;
 import static org.folio.common.utils.tls.Utils.IS_HOSTNAME_VERIFICATION_DISABLED;
 import static org.folio.common.utils.tls.Utils.buildSslContext;
 
-import lombok.extern.log4j.Log4j2;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.folio.common.configuration.properties.TlsProperties;
+import org.folio.login.integration.keycloak.config.KeycloakProperties;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.keycloak.OAuth2Constants;
 import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 
-@Log4j2
-@Configuration
-@EnableConfigurationProperties({KeycloakProperties.class})
-public class KeycloakAdminConfiguration {
+/**
+ * Keycloak admin client used by integration tests to inspect the Keycloak state, the module itself calls the admin
+ * API through the declarative HTTP clients.
+ */
+@TestConfiguration
+public class KeycloakAdminTestConfiguration {
 
   private static final DefaultHostnameVerifier DEFAULT_HOSTNAME_VERIFIER = new DefaultHostnameVerifier();
 
-  @Bean
+  @Bean(destroyMethod = "close")
   public Keycloak keycloak(KeycloakProperties properties) {
     var admin = properties.getAdmin();
 
     var builder = KeycloakBuilder.builder()
       .realm("master")
       .serverUrl(properties.getUrl())
-      .clientId(admin.getClientId())
-      .username(stripToNull(admin.getUsername()))
-      .password(stripToNull(admin.getPassword()))
-      .grantType(OAuth2Constants.PASSWORD);
+      .clientId(admin.getClientId());
+
+    if (isNotBlank(admin.getClientSecret())) {
+      builder.clientSecret(admin.getClientSecret()).grantType(OAuth2Constants.CLIENT_CREDENTIALS);
+    } else {
+      builder.username(stripToNull(admin.getUsername()))
+        .password(stripToNull(admin.getPassword()))
+        .grantType(OAuth2Constants.PASSWORD);
+    }
 
     var tls = properties.getTls();
     if (tls != null && tls.isEnabled()) {
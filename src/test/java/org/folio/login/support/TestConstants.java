@@ -17,10 +17,10 @@ public class TestConstants {
   public static final String KEYCLOAK_USER_ID = "99999999-1111-1111-1111-999999999999";
   public static final String USER_CREDENTIAL_ID = "00000000-0000-0000-0000-000000000000";
   public static final String TENANT = "test";
+  public static final String SESSION_ID = "11111111-1111-1111-1111-111111111111";
   public static final String REALM = TENANT;
   public static final String OKAPI_URL = "http://okapi:9130";
   public static final String AUTH_CODE = "secret_code";
-  public static final String KEYCLOAK_CONFIG_CACHE = "keycloak-configuration";
   public static final String PASSWORD_RESET_ACTION_ID = "aa69563e-78e7-4e5d-a264-e40a55616150";
   public static final UUID PASSWORD_RESET_ACTION_UUID = UUID.fromString(PASSWORD_RESET_ACTION_ID);
   public static final UUID USER_UUID = UUID.fromString(USER_ID);
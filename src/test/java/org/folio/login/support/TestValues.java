@@ -13,6 +13,8 @@ import static org.folio.login.support.TestConstants.PASSWORD_RESET_ACTION_UUID;
 import static org.folio.login.support.TestConstants.REFRESH_EXPIRES_IN;
 import static org.folio.login.support.TestConstants.REFRESH_TOKEN;
 import static org.folio.login.support.TestConstants.REFRESH_TOKEN_EXPIRATION_DATE;
+import static org.folio.login.support.TestConstants.SESSION_ID;
+import static org.folio.login.support.TestConstants.TENANT;
 import static org.folio.login.support.TestConstants.USERNAME;
 import static org.folio.login.support.TestConstants.USER_CREDENTIAL_ID;
 import static org.folio.login.support.TestConstants.USER_ID;
@@ -31,6 +33,7 @@ import org.folio.login.domain.dto.UpdateCredentials;
 import org.folio.login.domain.entity.PasswordCreateActionEntity;
 import org.folio.login.domain.model.KeycloakAuthentication;
 import org.folio.login.domain.model.KeycloakRealmConfiguration;
+import org.folio.login.domain.model.ParsedToken;
 import org.folio.login.domain.model.PasswordCredential;
 import org.folio.login.domain.model.Token;
 import org.folio.login.domain.model.TokenContainer;
@@ -184,6 +187,19 @@ public class TestValues {
       .build();
   }
 
+  public static ParsedToken parsedRefreshToken() {
+    return parsedRefreshToken(REFRESH_TOKEN);
+  }
+
+  public static ParsedToken parsedRefreshToken(String jwt) {
+    var parsedToken = new ParsedToken();
+    parsedToken.setJwt(jwt);
+    parsedToken.setIssuer("http://localhost:8081/realms/" + TENANT);
+    parsedToken.setSessionId(SESSION_ID);
+    parsedToken.setType("Refresh");
+    return parsedToken;
+  }
+
   public static TokenContainer tokenContainer() {
     return TokenContainer.builder().accessToken(accessToken()).refreshToken(refreshToken()).build();
   }
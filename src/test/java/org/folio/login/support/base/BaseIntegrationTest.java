@@ -1,7 +1,6 @@
 package org.folio.login.support.base;
 
 import static org.folio.login.support.TestConstants.TENANT;
-import static org.folio.login.support.TestUtils.cleanUpCaches;
 import static org.folio.test.TestConstants.OKAPI_AUTH_TOKEN;
 import static org.folio.test.TestUtils.asJsonString;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -15,6 +14,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
+import org.folio.login.service.KeycloakUserIdCache;
+import org.folio.login.service.RealmConfigurationProvider;
+import org.folio.login.support.KeycloakAdminTestConfiguration;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.tenant.domain.dto.TenantAttributes;
 import org.folio.test.FakeKafkaConsumer;
@@ -31,7 +33,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestExecutionListeners;
@@ -46,6 +48,7 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 @EnableKeycloakTlsMode
 @ActiveProfiles("it")
 @AutoConfigureMockMvc
+@Import(KeycloakAdminTestConfiguration.class)
 @TestExecutionListeners(listeners = {WireMockExecutionListener.class, KeycloakExecutionListener.class},
   mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public abstract class BaseIntegrationTest extends BaseBackendIntegrationTest {
@@ -55,7 +58,9 @@ public abstract class BaseIntegrationTest extends BaseBackendIntegrationTest {
   private static final String MODULE_NAME = "mod-login-keycloak";
 
   @Autowired
-  private CacheManager cacheManager;
+  private RealmConfigurationProvider realmConfigurationProvider;
+  @Autowired
+  private KeycloakUserIdCache keycloakUserIdCache;
 
   @BeforeAll
   static void beforeAll(@Autowired FakeKafkaConsumer kafkaConsumer) {
@@ -64,7 +69,8 @@ public abstract class BaseIntegrationTest extends BaseBackendIntegrationTest {
 
   @BeforeEach
   void setUp() {
-    cleanUpCaches(cacheManager);
+    realmConfigurationProvider.invalidateAll();
+    keycloakUserIdCache.invalidateAll();
   }
 
   public static ResultActions attemptGet(String uri, Object... args) throws Exception {
@@ -0,0 +1,39 @@
+package org.folio.login.util;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import org.folio.spring.exception.NotFoundException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class FutureUtilsTest {
+
+  @Test
+  void join_positive() {
+    assertThat(FutureUtils.join(completedFuture("value"))).isEqualTo("value");
+  }
+
+  @Test
+  void join_negative_runtimeExceptionUnwrapped() {
+    var future = failedFuture(new NotFoundException("User not found"));
+
+    assertThatThrownBy(() -> FutureUtils.join(future))
+      .isInstanceOf(NotFoundException.class)
+      .hasMessage("User not found");
+  }
+
+  @Test
+  void join_negative_checkedExceptionWrapped() {
+    var future = failedFuture(new IOException("Connection reset"));
+
+    assertThatThrownBy(() -> FutureUtils.join(future))
+      .isInstanceOf(CompletionException.class)
+      .hasCauseInstanceOf(IOException.class);
+  }
+}
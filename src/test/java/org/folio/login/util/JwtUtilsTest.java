@@ -6,23 +6,12 @@ import static org.folio.login.util.JwtUtils.tokenResponseAsString;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.assertj.core.api.Assertions;
 import org.folio.login.domain.model.KeycloakAuthentication;
-import org.folio.test.security.TestJwtGenerator;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 
 @UnitTest
 class JwtUtilsTest {
 
-  @Test
-  void extractTenant_positive() {
-    var tenantId = "testtenant";
-    var testToken = TestJwtGenerator.generateJwtToken("http://localhost:8081", tenantId);
-
-    var extractedTenant = JwtUtils.extractTenant(testToken);
-
-    assertThat(extractedTenant).isEqualTo(tenantId);
-  }
-
   @Test
   void tokenResponseAsString_positive() {
     var tokenResponse = new KeycloakAuthentication();
@@ -0,0 +1,64 @@
+package org.folio.login.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class MergingIteratorTest {
+
+  private static final Comparator<Integer> DESC = Comparator.reverseOrder();
+
+  @Test
+  void next_positive_mergedInOrder() {
+    var first = List.of(9, 7, 4, 1).iterator();
+    var second = List.of(8, 7, 2).iterator();
+    var third = List.<Integer>of().iterator();
+
+    var merged = new MergingIterator<>(List.of(first, second, third), DESC);
+
+    assertThat(toList(merged, Integer.MAX_VALUE)).containsExactly(9, 8, 7, 7, 4, 2, 1);
+    assertThatThrownBy(merged::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void next_positive_pagesLoadedLazily() {
+    var firstSourceOffsets = new ArrayList<Integer>();
+    var secondSourceOffsets = new ArrayList<Integer>();
+    var first = pagedSource(IntStream.iterate(1000, i -> i - 2).limit(100).boxed().toList(), firstSourceOffsets);
+    var second = pagedSource(IntStream.iterate(999, i -> i - 2).limit(100).boxed().toList(), secondSourceOffsets);
+
+    var merged = new MergingIterator<>(List.of(first, second), DESC);
+
+    assertThat(toList(merged, 25)).containsExactlyElementsOf(IntStream.rangeClosed(976, 1000).boxed()
+      .sorted(DESC).toList());
+    assertThat(firstSourceOffsets).containsExactly(0, 10);
+    assertThat(secondSourceOffsets).containsExactly(0, 10);
+  }
+
+  private static Iterator<Integer> pagedSource(List<Integer> records, List<Integer> offsets) {
+    return new PagedIterator<>(offset -> page(records, offset, offsets), 10, Function.identity());
+  }
+
+  private static List<Integer> page(List<Integer> records, int offset, List<Integer> offsets) {
+    offsets.add(offset);
+    return records.subList(Math.min(offset, records.size()), Math.min(offset + 10, records.size()));
+  }
+
+  private static List<Integer> toList(Iterator<Integer> iterator, int limit) {
+    var result = new ArrayList<Integer>();
+    while (result.size() < limit && iterator.hasNext()) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.login.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PagedIteratorTest {
+
+  private final List<Integer> offsets = new ArrayList<>();
+
+  @Test
+  void next_positive_shortPageIsLast() {
+    var records = IntStream.range(0, 25).boxed().toList();
+    var source = new PagedIterator<>(offset -> page(records, offset), 10, Function.identity());
+
+    assertThat(toList(source, Integer.MAX_VALUE)).containsExactlyElementsOf(records);
+    assertThat(offsets).containsExactly(0, 10, 20);
+    assertThatThrownBy(source::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void next_positive_pagesLoadedLazily() {
+    var records = IntStream.range(0, 100).boxed().toList();
+    var source = new PagedIterator<>(offset -> page(records, offset), 10, Function.identity());
+
+    assertThat(toList(source, 15)).containsExactlyElementsOf(records.subList(0, 15));
+    assertThat(offsets).containsExactly(0, 10);
+  }
+
+  @Test
+  void next_positive_filteredPagesSkipped() {
+    var records = IntStream.iterate(100, i -> i - 1).limit(35).boxed().toList();
+    Function<List<Integer>, List<Integer>> onlyEven = page -> page.stream().filter(i -> i % 20 == 0).toList();
+    var source = new PagedIterator<>(offset -> page(records, offset), 10, onlyEven);
+
+    assertThat(toList(source, Integer.MAX_VALUE)).containsExactly(100, 80);
+    assertThat(offsets).containsExactly(0, 10, 20, 30);
+  }
+
+  @Test
+  void hasNext_negative_nullPage() {
+    var source = new PagedIterator<Integer, Integer>(offset -> null, 10, Function.identity());
+
+    assertThat(source.hasNext()).isFalse();
+  }
+
+  private List<Integer> page(List<Integer> records, int offset) {
+    offsets.add(offset);
+    return records.subList(Math.min(offset, records.size()), Math.min(offset + 10, records.size()));
+  }
+
+  private static List<Integer> toList(Iterator<Integer> iterator, int limit) {
+    var result = new ArrayList<Integer>();
+    while (result.size() < limit && iterator.hasNext()) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+}
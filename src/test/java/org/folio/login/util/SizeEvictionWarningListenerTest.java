@@ -0,0 +1,39 @@
+package org.folio.login.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SizeEvictionWarningListenerTest {
+
+  private final SizeEvictionWarningListener<String, String> listener = new SizeEvictionWarningListener<>("test", 1);
+  private final Cache<String, String> cache = Caffeine.newBuilder()
+    .maximumSize(1)
+    .executor(Runnable::run)
+    .removalListener(listener)
+    .build();
+
+  @Test
+  void onRemoval_positive_sizeEvictionsCounted() {
+    cache.put("k1", "v1");
+    cache.put("k2", "v2");
+    cache.put("k3", "v3");
+    cache.cleanUp();
+
+    assertThat(listener.getEvictionCount()).isEqualTo(2);
+  }
+
+  @Test
+  void onRemoval_positive_invalidationIgnored() {
+    cache.put("k1", "v1");
+    cache.put("k1", "v2");
+    cache.invalidateAll();
+    cache.cleanUp();
+
+    assertThat(listener.getEvictionCount()).isZero();
+  }
+}
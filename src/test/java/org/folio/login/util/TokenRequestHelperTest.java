@@ -2,6 +2,7 @@ package org.folio.login.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.keycloak.OAuth2Constants.AUTHORIZATION_CODE;
+import static org.keycloak.OAuth2Constants.CLIENT_CREDENTIALS;
 import static org.keycloak.OAuth2Constants.CLIENT_ID;
 import static org.keycloak.OAuth2Constants.CLIENT_SECRET;
 import static org.keycloak.OAuth2Constants.GRANT_TYPE;
@@ -83,4 +84,18 @@ class TokenRequestHelperTest {
     var actual = TokenRequestHelper.prepareRefreshRequestBody(TestConstants.REFRESH_TOKEN, config);
     assertEquals(actual, expected);
   }
+
+  @Test
+  void prepareClientCredentialsRequestBody_positive() {
+    var config = new KeycloakRealmConfiguration();
+    config.setClientId(TEST_CLIENT);
+    config.setClientSecret(TEST_CLIENT_SECRET);
+
+    var expected = new LinkedMultiValueMap<String, String>();
+    expected.add(GRANT_TYPE, CLIENT_CREDENTIALS);
+    expected.add(CLIENT_ID, TEST_CLIENT);
+    expected.add(CLIENT_SECRET, TEST_CLIENT_SECRET);
+    var actual = TokenRequestHelper.prepareClientCredentialsRequestBody(config);
+    assertEquals(actual, expected);
+  }
 }